@@ -0,0 +1,99 @@
+package io.quarkiverse.playwright.benchmarks.jmh;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.impl.Connection;
+import com.microsoft.playwright.impl.Transport;
+
+/**
+ * A call through the Playwright {@link Connection}: the request is built and sent, the recorded response is read back,
+ * bound to a {@code Message} and dispatched to the waiting call. Only the driver is replaced, by a transport replaying
+ * the response, so that the benchmark measures the client side alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionDispatchBenchmark {
+
+    @Param({ "evaluate-response", "navigate-response", "screenshot-response" })
+    String fixture;
+
+    private Connection connection;
+    private String guid;
+    private String method;
+    private JsonObject params;
+
+    @Setup
+    public void setup() {
+        final JsonObject request = PlaywrightInternals.GSON.fromJson(PlaywrightInternals.fixture("evaluate-request"),
+                JsonObject.class);
+        guid = request.get("guid").getAsString();
+        method = request.get("method").getAsString();
+        params = request.getAsJsonObject("params");
+        connection = PlaywrightInternals.newConnection(new ReplayTransport(
+                PlaywrightInternals.GSON.fromJson(PlaywrightInternals.fixture(fixture), JsonObject.class)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        PlaywrightInternals.close(connection);
+    }
+
+    @Benchmark
+    public JsonElement sendMessage() {
+        return connection.sendMessage(guid, method, params);
+    }
+
+    /**
+     * Answers every request with the recorded response, under the id of the request.
+     */
+    private static final class ReplayTransport implements Transport {
+
+        private final JsonObject response;
+        private int pendingId = -1;
+
+        ReplayTransport(JsonObject response) {
+            this.response = response;
+        }
+
+        @Override
+        public void send(JsonObject message) {
+            pendingId = message.get("id").getAsInt();
+        }
+
+        @Override
+        public JsonObject poll(Duration timeout) {
+            if (pendingId < 0) {
+                return null;
+            }
+            // the connection does not keep the message once dispatched, the response can be reused
+            response.addProperty("id", pendingId);
+            pendingId = -1;
+            return response;
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkiverse.playwright.benchmarks.jmh;
+
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.DESERIALIZE;
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.GSON;
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.SERIALIZED_VALUE;
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.SERIALIZE_ARGUMENT;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * The {@code SerializedArgument} and {@code SerializedValue} protocol classes, serialized for the argument of
+ * {@code page.evaluate} and deserialized from its result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvaluateArgumentBenchmark {
+
+    private Object argument;
+    private JsonElement result;
+
+    @Setup
+    public void setup() {
+        argument = Map.of("title", "Quarkus Playwright", "count", 42, "ratio", 0.75, "visible", true,
+                "items", Arrays.asList("first", "second", 3, null));
+        result = GSON.fromJson(PlaywrightInternals.fixture("evaluate-response"), JsonObject.class)
+                .getAsJsonObject("result").get("value");
+    }
+
+    @Benchmark
+    public JsonElement serializeArgument() throws Throwable {
+        return GSON.toJsonTree((Object) SERIALIZE_ARGUMENT.invokeExact(argument));
+    }
+
+    @Benchmark
+    public Object deserializeResult() throws Throwable {
+        return (Object) DESERIALIZE.invokeExact((Object) GSON.fromJson(result, SERIALIZED_VALUE));
+    }
+}
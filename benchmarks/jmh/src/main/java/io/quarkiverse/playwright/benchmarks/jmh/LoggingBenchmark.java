@@ -0,0 +1,97 @@
+package io.quarkiverse.playwright.benchmarks.jmh;
+
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.DRIVER_LOG_WITH_TIMESTAMP;
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.LOG_API;
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.LOG_API_IF_ENABLED;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.jboss.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of the Playwright logging calls made around every API call, with logging off and on.
+ * <p>
+ * {@code LoggingSupport} and {@code DriverLogging} read the {@code DEBUG} environment variable once, so the disabled
+ * benchmarks measure logging off unless the benchmarks run with {@code DEBUG=pw:api}. {@code logApi} always logs and
+ * measures logging on. The JBoss Logging benchmarks measure a synchronous JBoss Logging call with a formatted
+ * timestamp, the cost the native substitutions of the extension now move to their background thread. The logs are
+ * written to a discarding stream.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.jboss.logging.provider=jdk")
+public class LoggingBenchmark {
+
+    private static final String MESSAGE = "=> Page.evaluate started";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
+    private PrintStream err;
+    private Logger enabled;
+    private Logger disabled;
+
+    @Setup
+    public void setup() {
+        err = System.err;
+        // before the loggers are created, their console handler writes to System.err
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+        java.util.logging.Logger.getLogger("benchmark.enabled").setLevel(Level.INFO);
+        java.util.logging.Logger.getLogger("benchmark.disabled").setLevel(Level.WARNING);
+        enabled = Logger.getLogger("benchmark.enabled");
+        disabled = Logger.getLogger("benchmark.disabled");
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setErr(err);
+    }
+
+    @Benchmark
+    public void loggingSupportDisabled() throws Throwable {
+        LOG_API_IF_ENABLED.invokeExact(MESSAGE);
+    }
+
+    @Benchmark
+    public void loggingSupportEnabled() throws Throwable {
+        LOG_API.invokeExact(MESSAGE);
+    }
+
+    @Benchmark
+    public void driverLogging() throws Throwable {
+        DRIVER_LOG_WITH_TIMESTAMP.invokeExact(MESSAGE);
+    }
+
+    @Benchmark
+    public void jbossLoggingDisabled() {
+        log(disabled);
+    }
+
+    @Benchmark
+    public void jbossLoggingEnabled() {
+        log(enabled);
+    }
+
+    private static void log(Logger logger) {
+        // what the substitutions of LoggingSupport and DriverLogging did on the calling thread
+        logger.infof("%s %s", ZonedDateTime.now().format(TIMESTAMP_FORMAT), MESSAGE);
+    }
+}
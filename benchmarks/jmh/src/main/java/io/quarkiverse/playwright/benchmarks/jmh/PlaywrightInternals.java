@@ -0,0 +1,172 @@
+package io.quarkiverse.playwright.benchmarks.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import com.google.gson.Gson;
+import com.microsoft.playwright.impl.Connection;
+import com.microsoft.playwright.impl.Transport;
+
+import io.quarkiverse.playwright.graal.ProtocolAccessor;
+import io.quarkiverse.playwright.graal.ProtocolTypeAdapterFactory;
+import io.quarkus.gizmo.ClassOutput;
+
+/**
+ * Handles on the package-private Playwright internals exercised by the benchmarks, and the recorded protocol
+ * fixtures.
+ * <p>
+ * The method handles are constant, so that the JIT compiles the benchmarked calls as if they were direct.
+ * </p>
+ */
+final class PlaywrightInternals {
+
+    private static final String IMPL_PACKAGE = "com.microsoft.playwright.impl.";
+
+    /** The {@link Gson} instance Playwright uses for the protocol messages. */
+    static final Gson GSON;
+    /**
+     * The {@link Gson} instance of native executables, with the protocol adapters generated at build time instead of
+     * the reflective adapter of Gson.
+     */
+    static final Gson GENERATED_GSON;
+    static final Class<?> MESSAGE = load(IMPL_PACKAGE + "Message");
+    static final Class<?> SERIALIZED_VALUE = load(IMPL_PACKAGE + "SerializedValue");
+    /** {@code (Object) -> SerializedArgument}, typed {@code (Object) -> Object} */
+    static final MethodHandle SERIALIZE_ARGUMENT;
+    /** {@code (SerializedValue) -> Object}, typed {@code (Object) -> Object} */
+    static final MethodHandle DESERIALIZE;
+    static final MethodHandle LOG_API;
+    static final MethodHandle LOG_API_IF_ENABLED;
+    static final MethodHandle DRIVER_LOG_WITH_TIMESTAMP;
+
+    static {
+        try {
+            final Class<?> serialization = load(IMPL_PACKAGE + "Serialization");
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(serialization, MethodHandles.lookup());
+            GSON = (Gson) lookup.findStatic(serialization, "gson", MethodType.methodType(Gson.class)).invoke();
+            // as ProtocolTypeAdapters extends it in native executables
+            GENERATED_GSON = GSON.newBuilder()
+                    .registerTypeAdapterFactory(new ProtocolTypeAdapterFactory(generateAccessors()))
+                    .create();
+            SERIALIZE_ARGUMENT = lookup
+                    .findStatic(serialization, "serializeArgument",
+                            MethodType.methodType(load(IMPL_PACKAGE + "SerializedArgument"), Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            DESERIALIZE = lookup
+                    .findStatic(serialization, "deserialize", MethodType.methodType(Object.class, SERIALIZED_VALUE))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+
+            final MethodType log = MethodType.methodType(void.class, String.class);
+            final Class<?> loggingSupport = load(IMPL_PACKAGE + "LoggingSupport");
+            final MethodHandles.Lookup loggingLookup = MethodHandles.privateLookupIn(loggingSupport,
+                    MethodHandles.lookup());
+            LOG_API = loggingLookup.findStatic(loggingSupport, "logApi", log);
+            LOG_API_IF_ENABLED = loggingLookup.findStatic(loggingSupport, "logApiIfEnabled", log);
+            final Class<?> driverLogging = load(IMPL_PACKAGE + "driver.DriverLogging");
+            DRIVER_LOG_WITH_TIMESTAMP = MethodHandles.privateLookupIn(driverLogging, MethodHandles.lookup())
+                    .findStatic(driverLogging, "logWithTimestamp", log);
+        } catch (Throwable e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private PlaywrightInternals() {
+    }
+
+    /**
+     * @return a connection exchanging its messages with the given transport, as {@code Playwright.create} would
+     */
+    static Connection newConnection(Transport transport) {
+        try {
+            final Constructor<Connection> constructor = Connection.class.getDeclaredConstructor(Transport.class,
+                    Map.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(transport, Map.of());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Playwright connection could not be created", e);
+        }
+    }
+
+    static void close(Connection connection) {
+        try {
+            final Method close = Connection.class.getDeclaredMethod("close");
+            close.setAccessible(true);
+            close.invoke(connection);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Playwright connection could not be closed", e);
+        }
+    }
+
+    /**
+     * Generates the protocol accessors the way the native build does, and defines them next to the protocol classes
+     * so that they reach their package-private fields.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<ProtocolAccessor> generateAccessors() throws Exception {
+        final Indexer indexer = new Indexer();
+        final Path jar = Path.of(MESSAGE.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            for (JarEntry entry : (Iterable<JarEntry>) jarFile.stream()::iterator) {
+                if (entry.getName().startsWith(IMPL_PACKAGE.replace('.', '/')) && entry.getName().endsWith(".class")) {
+                    try (InputStream in = jarFile.getInputStream(entry)) {
+                        indexer.index(in);
+                    }
+                }
+            }
+        }
+
+        // package-private, like every build step helper of the extension
+        final Method generate = Class.forName("io.quarkiverse.playwright.deployment.PlaywrightProtocolAccessors")
+                .getDeclaredMethod("generate", IndexView.class, ClassOutput.class);
+        generate.setAccessible(true);
+        final Map<String, byte[]> generated = new HashMap<>();
+        final List<String> names = (List<String>) generate.invoke(null, indexer.complete(),
+                (ClassOutput) (name, data) -> generated.put(name.replace('/', '.'), data));
+
+        final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(MESSAGE, MethodHandles.lookup());
+        final List<ProtocolAccessor> accessors = new ArrayList<>();
+        for (String name : names) {
+            accessors.add((ProtocolAccessor) lookup.defineClass(generated.get(name)).getConstructor().newInstance());
+        }
+        return accessors;
+    }
+
+    /**
+     * @return the recorded protocol message of the given name, as read from the driver
+     */
+    static String fixture(String name) {
+        try (InputStream in = PlaywrightInternals.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown fixture " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Class<?> load(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Playwright class " + className + " not found", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.quarkiverse.playwright.benchmarks.jmh;
+
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.GENERATED_GSON;
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.GSON;
+import static io.quarkiverse.playwright.benchmarks.jmh.PlaywrightInternals.MESSAGE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+
+/**
+ * The three steps every protocol message goes through in the client: the reader thread parses the line read from
+ * the driver, the connection binds it to a {@code Message}, and the transport writes the outgoing messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtocolSerializationBenchmark {
+
+    @Param({ "evaluate-response", "navigate-response", "screenshot-response", "error-response", "console-event",
+            "evaluate-request" })
+    String fixture;
+
+    private String line;
+    private JsonObject json;
+
+    @Setup
+    public void setup() {
+        line = PlaywrightInternals.fixture(fixture);
+        json = GSON.fromJson(line, JsonObject.class);
+    }
+
+    /**
+     * {@code ReaderThread}
+     */
+    @Benchmark
+    public JsonObject parse() {
+        return GSON.fromJson(line, JsonObject.class);
+    }
+
+    /**
+     * {@code Connection.processOneMessage}
+     */
+    @Benchmark
+    public Object deserialize() {
+        return GSON.fromJson(json, MESSAGE);
+    }
+
+    /**
+     * {@code Connection.processOneMessage} in a native executable, with the protocol adapters generated at build time
+     */
+    @Benchmark
+    public Object deserializeGenerated() {
+        return GENERATED_GSON.fromJson(json, MESSAGE);
+    }
+
+    /**
+     * {@code PipeTransport}
+     */
+    @Benchmark
+    public String serialize() {
+        return GSON.toJson(json);
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkiverse.playwright.benchmarks.startup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.ws.rs.GET;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+import io.quarkus.runtime.ImageMode;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Measures the first Playwright actions of the application: the time of each step, and the resident memory of the
+ * process after it.
+ * <p>
+ * The steps only measure a cold start on the first request of the process, which is what the benchmark tests send.
+ * </p>
+ */
+@jakarta.ws.rs.Path("/startup-benchmark")
+@ApplicationScoped
+public class StartupBenchmarkResource {
+
+    private static final Logger log = Logger.getLogger(StartupBenchmarkResource.class);
+
+    private static final String PAGE = "/benchmark.html";
+
+    @ConfigProperty(name = "quarkus.http.port")
+    int port;
+
+    @ConfigProperty(name = "quarkus.http.test-port")
+    int testPort;
+
+    private volatile Step started;
+
+    void onStart(@Observes StartupEvent event) {
+        final Duration sinceProcessStart = ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()))
+                .orElse(Duration.ZERO);
+        started = new Step("application started", sinceProcessStart.toNanos() / 1_000_000d, residentMemory());
+    }
+
+    @GET
+    public Report run() throws Exception {
+        final List<Step> steps = new ArrayList<>();
+        steps.add(started);
+        final String content = content();
+        final String url = "http://localhost:" + (LaunchMode.current() == LaunchMode.TEST ? testPort : port) + PAGE;
+
+        final Playwright playwright = measure(steps, "Playwright.create", Playwright::create);
+        try (playwright) {
+            final Browser browser = measure(steps, "browser launch", () -> playwright.chromium()
+                    .launch(new BrowserType.LaunchOptions().setHeadless(true).setChromiumSandbox(false)));
+            final BrowserContext context = measure(steps, "newContext", browser::newContext);
+            final Page page = measure(steps, "newPage", context::newPage);
+            measure(steps, "first setContent", () -> {
+                page.setContent(content);
+                return null;
+            });
+            measure(steps, "first navigate", () -> page.navigate(url));
+            measure(steps, "first screenshot", page::screenshot);
+            measure(steps, "browser close", () -> {
+                browser.close();
+                return null;
+            });
+        }
+        final Report report = new Report(ImageMode.current().name().toLowerCase(),
+                LaunchMode.current().name().toLowerCase(), steps);
+        steps.forEach(step -> log.infof("%-20s %10.1f ms %10d KiB", step.name(), step.millis(), step.rssKiB()));
+        return report;
+    }
+
+    private static <T> T measure(List<Step> steps, String name, Callable<T> action) throws Exception {
+        final long start = System.nanoTime();
+        final T result = action.call();
+        steps.add(new Step(name, (System.nanoTime() - start) / 1_000_000d, residentMemory()));
+        return result;
+    }
+
+    /**
+     * @return the resident set size of the process in KiB, or -1 outside of Linux
+     */
+    private static long residentMemory() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Could not read the resident memory of the process", e);
+        }
+        return -1;
+    }
+
+    private static String content() throws IOException {
+        try (InputStream in = StartupBenchmarkResource.class.getResourceAsStream("/META-INF/resources" + PAGE)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    public record Step(String name, double millis, long rssKiB) {
+    }
+
+    public record Report(String imageMode, String launchMode, List<Step> steps) {
+    }
+}
@@ -0,0 +1,7 @@
+package io.quarkiverse.playwright.benchmarks.startup;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+@QuarkusIntegrationTest
+public class StartupBenchmarkIT extends StartupBenchmarkTest {
+}
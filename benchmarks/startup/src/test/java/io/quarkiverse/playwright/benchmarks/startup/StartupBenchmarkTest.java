@@ -0,0 +1,60 @@
+package io.quarkiverse.playwright.benchmarks.startup;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.path.json.JsonPath;
+
+/**
+ * Runs the startup benchmark once, writes its report to {@code target/startup-benchmark-<image mode>-<launch mode>.json}
+ * and, when {@code benchmark.baseline} points to the report of a previous run, fails on the steps slower than the
+ * baseline by more than {@code benchmark.tolerance}.
+ */
+@QuarkusTest
+public class StartupBenchmarkTest {
+
+    @Test
+    public void startup() throws IOException {
+        final String body = given()
+                .when().get("/startup-benchmark")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+        final JsonPath report = JsonPath.from(body);
+        final List<String> steps = report.getList("steps.name");
+        assertEquals(List.of("application started", "Playwright.create", "browser launch", "newContext", "newPage",
+                "first setContent", "first navigate", "first screenshot", "browser close"), steps);
+
+        final Path output = Paths.get("target",
+                "startup-benchmark-" + report.getString("imageMode") + "-" + report.getString("launchMode") + ".json");
+        Files.writeString(output, body);
+
+        final String baseline = System.getProperty("benchmark.baseline", "");
+        if (!baseline.isBlank()) {
+            final double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.5"));
+            final Map<String, Double> current = millisByStep(report);
+            final Map<String, Double> expected = millisByStep(JsonPath.from(Files.readString(Paths.get(baseline))));
+            expected.forEach((step, millis) -> assertTrue(current.getOrDefault(step, 0d) <= millis * (1 + tolerance),
+                    () -> String.format("%s took %.1f ms, the baseline %s is %.1f ms", step, current.get(step), baseline,
+                            millis)));
+        }
+    }
+
+    private static Map<String, Double> millisByStep(JsonPath report) {
+        final List<Map<String, Object>> steps = report.getList("steps");
+        return steps.stream().collect(Collectors.toMap(step -> (String) step.get("name"),
+                step -> ((Number) step.get("millis")).doubleValue()));
+    }
+}
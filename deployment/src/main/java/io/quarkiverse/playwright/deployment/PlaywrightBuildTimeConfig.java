@@ -1,5 +1,10 @@
 package io.quarkiverse.playwright.deployment;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkiverse.playwright.WithPlaywright;
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -15,6 +20,30 @@ public interface PlaywrightBuildTimeConfig {
     @ConfigDocSection
     PlaywrightDevServicesConfig devservices();
 
+    /**
+     * Configuration of the Playwright driver packaged with the application.
+     */
+    @ConfigDocSection
+    PlaywrightDriverConfig driver();
+
+    /**
+     * Configuration of the Playwright metrics.
+     */
+    @ConfigDocSection
+    PlaywrightMetricsConfig metrics();
+
+    /**
+     * Configuration of the Playwright tracing.
+     */
+    @ConfigDocSection
+    PlaywrightTracingConfig tracing();
+
+    /**
+     * Configuration of the Playwright JDK Flight Recorder events.
+     */
+    @ConfigDocSection
+    PlaywrightJfrConfig jfr();
+
     @ConfigGroup
     interface PlaywrightDevServicesConfig {
         String DEFAULT_IMAGE = "mcr.microsoft.com/playwright:v1.61.0-noble";
@@ -45,5 +74,143 @@ public interface PlaywrightBuildTimeConfig {
          */
         @WithDefault("false")
         boolean sharedNetwork();
+
+        /**
+         * Number of Playwright server containers started in parallel. With several instances, their endpoints are
+         * published in {@code quarkus.playwright.endpoints} and the browsers of the tests connect to the instance with
+         * the fewest connected browsers, so that tests running in parallel do not all share one server.
+         */
+        @WithDefault("1")
+        int instances();
+
+        /**
+         * Whether the Playwright server containers are kept running after the application stops, and reused by the next
+         * applications or test runs with the same Dev Services configuration, in other JVMs too. Requires the reuse of
+         * containers to be enabled in Testcontainers, with {@code testcontainers.reuse.enable=true} in
+         * {@code ~/.testcontainers.properties}. Not supported with {@code shared-network}, nor with {@code keep-warm}.
+         */
+        @WithDefault("false")
+        boolean reuse();
+
+        /**
+         * Time after which a reused Playwright server container stops, and is removed, when no client is connected to
+         * it.
+         */
+        @WithDefault("30m")
+        Duration idleTimeout();
+
+        /**
+         * Whether, when no container runtime is available, a Playwright server process is started on the host from the
+         * bundled driver instead, shared by all the test classes. Its browsers are installed on the host like for a
+         * local launch.
+         */
+        @WithDefault("true")
+        boolean localFallback();
+
+        /**
+         * Whether the Playwright servers start in the background, while the application is built and started. The
+         * build only waits for the containers to be bound to their ports, and the browsers wait for the servers to
+         * answer when they first connect, for up to a minute. Otherwise, the build waits for the servers to be ready.
+         */
+        @WithDefault("true")
+        boolean asyncStart();
+
+        /**
+         * Browser types that the Playwright server containers launch before they are reported ready, so that the first
+         * test does not pay for loading the browser in the container. The readiness of the server is checked by
+         * connecting a Playwright client, which launches the browser.
+         */
+        @WithDefault("chromium")
+        List<WithPlaywright.Browser> warmUpBrowsers();
+
+        /**
+         * Whether the browsers launched to warm up the Playwright server containers are kept running until Dev Services
+         * stop, instead of being closed once the server is ready. Their client stays connected to the server, which
+         * would keep a reused container from stopping once idle, so it is not supported with {@code reuse}.
+         */
+        @WithDefault("false")
+        boolean keepWarm();
+
+        /**
+         * Whether to build, once, an image derived from {@code image-name} with the Playwright server of the client
+         * version installed, instead of installing it with npx every time the container starts. The image is tagged
+         * {@code quarkus-playwright-server:<version>-<hash>}, kept, and reused until the image name or the client
+         * version change.
+         */
+        @WithDefault("true")
+        boolean buildImage();
+
+        /**
+         * Image with the Playwright server of the client version already installed, started as is instead of
+         * {@code image-name}, for instance an image built beforehand. Its default command must start the Playwright
+         * server on port 3000.
+         */
+        Optional<String> serverImage();
+    }
+
+    @ConfigGroup
+    interface PlaywrightDriverConfig {
+
+        /**
+         * Whether packaging the application also extracts the Playwright driver into a {@code playwright-driver}
+         * directory next to the runner, {@code quarkus-app/playwright-driver} for fast-jar packaging. The application
+         * then starts Playwright from that directory instead of extracting the driver first, as long as the directory is
+         * shipped with the application and {@code quarkus.playwright.driver-cache.enabled} is not disabled.
+         */
+        @WithDefault("true")
+        boolean preExtract();
+
+        /**
+         * Platform the application runs on, one of {@code linux}, {@code linux-arm64}, {@code mac}, {@code mac-arm64} or
+         * {@code win32_x64}. Only the Node.js binary of this platform is pre-extracted and embedded into native
+         * executables, set it when building for another platform, such as a Linux container image built on macOS. Native
+         * executables built in a container, with {@code quarkus.native.container-build} or
+         * {@code quarkus.native.remote-container-build}, or because no GraalVM is installed, default to the Linux
+         * platform of the build architecture.
+         */
+        @ConfigDocDefault("the platform of the build")
+        Optional<String> platform();
+
+        /**
+         * Whether native executables include every charset supported by the JVM. The Playwright protocol only needs
+         * UTF-8, which native executables always include, enable this when the application decodes content with other
+         * charsets.
+         */
+        @WithDefault("false")
+        boolean addAllCharsets();
+    }
+
+    @ConfigGroup
+    interface PlaywrightMetricsConfig {
+
+        /**
+         * Whether the timers of the Playwright operations and of the browser pool leases, and the gauges of the open
+         * browsers, contexts and pages, are published when the {@code quarkus-micrometer} extension is present.
+         */
+        @WithDefault("true")
+        boolean enabled();
+    }
+
+    @ConfigGroup
+    interface PlaywrightTracingConfig {
+
+        /**
+         * Whether the Playwright API calls made by the application are traced as OpenTelemetry spans, when the
+         * {@code quarkus-opentelemetry} extension is present. The spans are children of the span of the request making
+         * the calls.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+
+    @ConfigGroup
+    interface PlaywrightJfrConfig {
+
+        /**
+         * Whether the launches, connections, API calls and protocol messages of Playwright are recorded as JDK Flight
+         * Recorder events, while a recording is running.
+         */
+        @WithDefault("true")
+        boolean enabled();
     }
 }
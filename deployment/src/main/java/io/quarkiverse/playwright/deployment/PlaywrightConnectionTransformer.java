@@ -0,0 +1,48 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.util.function.BiFunction;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import io.quarkiverse.playwright.ObservedTransport;
+import io.quarkus.gizmo.Gizmo;
+
+/**
+ * Wraps the transport of every Playwright {@code Connection} with {@link ObservedTransport}, by decorating the value
+ * stored into its {@code transport} field by the constructor.
+ */
+final class PlaywrightConnectionTransformer implements BiFunction<String, ClassVisitor, ClassVisitor> {
+
+    static final String CONNECTION_CLASS = "com.microsoft.playwright.impl.Connection";
+
+    private static final String CONNECTION = CONNECTION_CLASS.replace('.', '/');
+    private static final String TRANSPORT_DESCRIPTOR = "Lcom/microsoft/playwright/impl/Transport;";
+    private static final String OBSERVED_TRANSPORT = ObservedTransport.class.getName().replace('.', '/');
+
+    @Override
+    public ClassVisitor apply(String className, ClassVisitor visitor) {
+        return new ClassVisitor(Gizmo.ASM_API_VERSION, visitor) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                    String[] exceptions) {
+                final MethodVisitor method = super.visitMethod(access, name, descriptor, signature, exceptions);
+                if (!name.equals("<init>")) {
+                    return method;
+                }
+                return new MethodVisitor(Gizmo.ASM_API_VERSION, method) {
+                    @Override
+                    public void visitFieldInsn(int opcode, String owner, String field, String fieldDescriptor) {
+                        if (opcode == Opcodes.PUTFIELD && owner.equals(CONNECTION) && field.equals("transport")
+                                && fieldDescriptor.equals(TRANSPORT_DESCRIPTOR)) {
+                            super.visitMethodInsn(Opcodes.INVOKESTATIC, OBSERVED_TRANSPORT, "decorate",
+                                    "(" + TRANSPORT_DESCRIPTOR + ")" + TRANSPORT_DESCRIPTOR, false);
+                        }
+                        super.visitFieldInsn(opcode, owner, field, fieldDescriptor);
+                    }
+                };
+            }
+        };
+    }
+}
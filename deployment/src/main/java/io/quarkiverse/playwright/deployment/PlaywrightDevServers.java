@@ -0,0 +1,237 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import io.quarkiverse.playwright.DevServicesEndpoints;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.configuration.ConfigurationException;
+
+/**
+ * The Playwright server containers of Dev Services.
+ * <p>
+ * The instances found running, when reused, are connected to as is. The others are started in parallel, from an
+ * image built or pulled once. Unless started synchronously, the build only waits for the containers to be bound to the
+ * ports picked by Docker: the build goes on with their endpoints while the servers start, and the clients wait for
+ * them with {@link DevServicesEndpoints#await(String)} when they first connect, until the time published in
+ * {@link DevServicesEndpoints#READY_BY}.
+ * </p>
+ */
+final class PlaywrightDevServers implements Closeable {
+
+    private final List<String> endpoints;
+    private final boolean reused;
+
+    /**
+     * The time by which the servers starting in the background are started, in milliseconds since the epoch.
+     */
+    private final OptionalLong readyBy;
+
+    /**
+     * The containers started by this application, none when all the instances are reused.
+     */
+    private final CompletableFuture<List<PlaywrightServerContainer>> containers;
+
+    private PlaywrightDevServers(List<String> endpoints, boolean reused, OptionalLong readyBy,
+            CompletableFuture<List<PlaywrightServerContainer>> containers) {
+        this.endpoints = endpoints;
+        this.reused = reused;
+        this.readyBy = readyBy;
+        this.containers = containers;
+    }
+
+    static PlaywrightDevServers start(PlaywrightServerContainer.PlaywrightDevServiceConfiguration configuration) {
+        final int instances = configuration.instances();
+        if (instances < 1) {
+            throw new ConfigurationException("quarkus.playwright.devservices.instances must be at least 1, was " + instances,
+                    Set.of("quarkus.playwright.devservices.instances"));
+        }
+        if (configuration.keepWarm() && configuration.reuse()) {
+            // the connection of the warm browsers would keep a reused container from ever being idle
+            throw new ConfigurationException("quarkus.playwright.devservices.keep-warm is not supported with "
+                    + "quarkus.playwright.devservices.reuse",
+                    Set.of("quarkus.playwright.devservices.keep-warm", "quarkus.playwright.devservices.reuse"));
+        }
+        final String configHash = configHash(configuration);
+
+        final String[] endpoints = new String[instances];
+        final List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            final Optional<String> endpoint = configHash == null ? Optional.empty()
+                    : PlaywrightServerReuse.locate(configHash, i);
+            if (endpoint.isPresent()) {
+                endpoints[i] = endpoint.get();
+            } else {
+                missing.add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            Log.infof("Playwright Dev Services reusing the servers at %s", String.join(", ", endpoints));
+            return new PlaywrightDevServers(List.of(endpoints), true, OptionalLong.empty(),
+                    CompletableFuture.completedFuture(List.of()));
+        }
+
+        if (!configuration.asyncStart()) {
+            final List<PlaywrightServerContainer> containers = createContainers(configuration, configHash, missing);
+            startContainers(containers);
+            final List<String> started = new ArrayList<>();
+            for (int i = 0; i < missing.size(); i++) {
+                endpoints[missing.get(i)] = containers.get(i).endpoint();
+                started.add(endpoints[missing.get(i)]);
+            }
+            Log.infof("Playwright Dev Services started at %s using image %s", String.join(", ", started),
+                    containers.get(0).getDockerImageName());
+            return new PlaywrightDevServers(List.of(endpoints), configHash != null, OptionalLong.empty(),
+                    CompletableFuture.completedFuture(containers));
+        }
+
+        final CompletableFuture<List<PlaywrightServerContainer>> created = new CompletableFuture<>();
+        final CompletableFuture<List<PlaywrightServerContainer>> containers = new CompletableFuture<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                final List<PlaywrightServerContainer> starting = createContainers(configuration, configHash, missing);
+                created.complete(starting);
+                startContainers(starting);
+                Log.infof("Playwright Dev Services servers at %s are ready",
+                        String.join(", ", starting.stream().map(PlaywrightServerContainer::endpoint).toList()));
+                containers.complete(starting);
+            } catch (RuntimeException | Error e) {
+                Log.error("Playwright Dev Services failed to start", e);
+                created.completeExceptionally(e);
+                containers.completeExceptionally(e);
+            }
+        }, "playwright-dev-services");
+        thread.setDaemon(true);
+        thread.start();
+
+        // published once the containers are bound to the ports picked by Docker, before the servers start
+        final List<String> starting = new ArrayList<>();
+        try {
+            final List<PlaywrightServerContainer> bound = created.join();
+            for (int i = 0; i < missing.size(); i++) {
+                CompletableFuture.anyOf(bound.get(i).bound(), containers).join();
+                endpoints[missing.get(i)] = bound.get(i).bound().join();
+                starting.add(endpoints[missing.get(i)]);
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        Log.infof("Playwright Dev Services starting at %s using image %s", String.join(", ", starting),
+                created.join().get(0).getDockerImageName());
+        final long readyBy = System.currentTimeMillis() + PlaywrightServerContainer.STARTUP_TIMEOUT.toMillis();
+        return new PlaywrightDevServers(List.of(endpoints), configHash != null, OptionalLong.of(readyBy), containers);
+    }
+
+    /**
+     * The hash labelling the reused containers, {@code null} when the containers are not reused.
+     */
+    private static String configHash(PlaywrightServerContainer.PlaywrightDevServiceConfiguration configuration) {
+        if (!configuration.reuse()) {
+            return null;
+        }
+        if (configuration.sharedNetwork()) {
+            Log.warn("Playwright Dev Services containers are not reused with a shared network");
+            return null;
+        }
+        if (!TestcontainersConfiguration.getInstance().environmentSupportsReuse()) {
+            Log.warn("Playwright Dev Services containers are not reused, the reuse of containers is not enabled in "
+                    + "Testcontainers, set testcontainers.reuse.enable=true in ~/.testcontainers.properties");
+            return null;
+        }
+        return PlaywrightServerReuse.configHash(configuration);
+    }
+
+    /**
+     * Creates the containers of the instances, from an image built or pulled once, not by every instance.
+     */
+    private static List<PlaywrightServerContainer> createContainers(
+            PlaywrightServerContainer.PlaywrightDevServiceConfiguration configuration, String configHash,
+            List<Integer> instances) {
+        final String image = PlaywrightServerContainer.serverImage(configuration);
+        final List<PlaywrightServerContainer> containers = new ArrayList<>();
+        for (int instance : instances) {
+            containers.add(new PlaywrightServerContainer(configuration, image, configHash, instance));
+        }
+        return containers;
+    }
+
+    /**
+     * Starts the containers in parallel, stopping them all if one fails.
+     */
+    private static void startContainers(List<PlaywrightServerContainer> containers) {
+        if (containers.size() == 1) {
+            containers.get(0).start();
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(containers.size());
+        try {
+            final List<CompletableFuture<Void>> started = containers.stream()
+                    .map(container -> CompletableFuture.runAsync(container::start, executor))
+                    .toList();
+            CompletableFuture.allOf(started.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            stop(containers);
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void stop(List<PlaywrightServerContainer> containers) {
+        containers.parallelStream().forEach(PlaywrightServerContainer::stop);
+    }
+
+    /**
+     * The endpoints of all the instances, in order.
+     */
+    List<String> endpoints() {
+        return endpoints;
+    }
+
+    /**
+     * The time by which the servers starting in the background are started, none when they are all started.
+     */
+    OptionalLong readyBy() {
+        return readyBy;
+    }
+
+    /**
+     * The id of the first container started by this application, if started yet.
+     */
+    String containerId() {
+        if (!containers.isDone() || containers.isCompletedExceptionally()) {
+            return null;
+        }
+        final List<PlaywrightServerContainer> started = containers.join();
+        return started.isEmpty() ? null : started.get(0).getContainerId();
+    }
+
+    /**
+     * Stops the containers started by this application once started, unless they are reused, which stop once idle.
+     */
+    @Override
+    public void close() {
+        final List<PlaywrightServerContainer> stopped;
+        try {
+            stopped = containers.join();
+        } catch (CompletionException e) {
+            // the containers of a failed start are already stopped
+            return;
+        }
+        if (reused) {
+            stopped.forEach(PlaywrightServerContainer::closeWarmUp);
+        } else {
+            stop(stopped);
+        }
+    }
+}
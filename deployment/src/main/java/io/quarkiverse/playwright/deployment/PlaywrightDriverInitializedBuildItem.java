@@ -0,0 +1,10 @@
+package io.quarkiverse.playwright.deployment;
+
+import io.quarkus.builder.item.EmptyBuildItem;
+
+/**
+ * Marker that the Playwright driver resources have been registered at runtime init. Steps that create
+ * {@link com.microsoft.playwright.Playwright} instances when the application starts must run after it.
+ */
+public final class PlaywrightDriverInitializedBuildItem extends EmptyBuildItem {
+}
@@ -0,0 +1,148 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkiverse.playwright.CachedDriver;
+
+/**
+ * A Playwright server process started on the host from the bundled driver, by Dev Services when no container runtime is
+ * available.
+ * <p>
+ * The test classes then share one server and its browsers, instead of each starting its own driver and browser. The
+ * server only listens on the loopback interface, on a port it picks and prints once listening, so that no other
+ * process can take the port in between. It is started with {@code --unsafe} like the container, so that it
+ * honors the launch options sent by {@code QuarkusPlaywrightManager} in the {@code x-playwright-launch-options}
+ * header. The server exits on its own when its standard input closes, so it does not outlive the JVM.
+ * </p>
+ */
+final class PlaywrightLocalServer implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlaywrightLocalServer.class);
+
+    private static final String LISTENING = "Listening on ";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Process process;
+    private final String endpoint;
+
+    private PlaywrightLocalServer(Process process, String endpoint) {
+        this.process = process;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Starts the server, and waits for it to listen.
+     *
+     * @param verbose whether the server logs the Playwright API calls, and its output is logged at INFO level
+     */
+    static PlaywrightLocalServer start(boolean verbose) {
+        final Map<String, String> env = new HashMap<>();
+        if (verbose) {
+            env.put("DEBUG", "pw:api");
+        }
+        final ProcessBuilder builder = CachedDriver.install(env).createProcessBuilder();
+        builder.command().addAll(List.of("run-server", "--host", "127.0.0.1", "--port", "0", "--unsafe"));
+        builder.environment().putAll(env);
+        return start(builder, STARTUP_TIMEOUT, verbose);
+    }
+
+    /**
+     * Starts the server command, and waits for it to print its endpoint.
+     *
+     * @throws IllegalStateException if the server stops or does not listen within the startup timeout, in which case
+     *         its process is killed
+     */
+    static PlaywrightLocalServer start(ProcessBuilder builder, Duration startupTimeout, boolean verbose) {
+        builder.redirectErrorStream(true);
+
+        final Process process;
+        try {
+            process = builder.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the Playwright server", e);
+        }
+        final CompletableFuture<String> listening = new CompletableFuture<>();
+        final Thread output = new Thread(() -> readOutput(process, listening, verbose), "playwright-server-output");
+        output.setDaemon(true);
+        output.start();
+
+        try {
+            return new PlaywrightLocalServer(process,
+                    listening.get(startupTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting the Playwright server", e);
+        } catch (ExecutionException | TimeoutException e) {
+            process.destroyForcibly();
+            throw new IllegalStateException("The Playwright server did not start within " + startupTimeout,
+                    e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * Logs the output of the server, completing {@code listening} with its endpoint once it listens.
+     */
+    private static void readOutput(Process process, CompletableFuture<String> listening, boolean verbose) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!listening.isDone() && line.startsWith(LISTENING)) {
+                    listening.complete(line.substring(LISTENING.length()).trim());
+                }
+                if (verbose) {
+                    LOGGER.info(line);
+                } else {
+                    LOGGER.debug(line);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Failed to read the output of the Playwright server", e);
+        }
+        // no-op once listening
+        listening.completeExceptionally(new IllegalStateException("The Playwright server stopped"));
+    }
+
+    /**
+     * The websocket endpoint of the server, such as {@code ws://127.0.0.1:41235/}.
+     */
+    String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Stops the server and its browsers.
+     */
+    @Override
+    public void close() {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        try {
+            if (!process.waitFor(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
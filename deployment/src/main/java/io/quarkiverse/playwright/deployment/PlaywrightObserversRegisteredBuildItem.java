@@ -0,0 +1,10 @@
+package io.quarkiverse.playwright.deployment;
+
+import io.quarkus.builder.item.EmptyBuildItem;
+
+/**
+ * Marker that the Playwright observers, tracing and flight recorder included, have been registered at runtime init.
+ * Steps that start browsers when the application starts must run after it, so that the observers see them.
+ */
+public final class PlaywrightObserversRegisteredBuildItem extends EmptyBuildItem {
+}
@@ -1,53 +1,82 @@
 package io.quarkiverse.playwright.deployment;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.ConfigProvider;
-import org.jboss.jandex.ClassInfo;
-import org.jboss.jandex.DotName;
 import org.testcontainers.Testcontainers;
 
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.ElementHandle;
-import com.microsoft.playwright.Frame;
-import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
-import com.microsoft.playwright.impl.driver.jar.DriverJar;
-import com.microsoft.playwright.options.HttpHeader;
-import com.microsoft.playwright.options.Timing;
-import com.microsoft.playwright.options.ViewportSize;
-
+import io.quarkiverse.playwright.BrowserContextPool;
+import io.quarkiverse.playwright.BrowserPool;
+import io.quarkiverse.playwright.CachedDriver;
+import io.quarkiverse.playwright.DevServicesEndpoints;
+import io.quarkiverse.playwright.PlaywrightDispatcher;
+import io.quarkiverse.playwright.PlaywrightObserver;
+import io.quarkiverse.playwright.PlaywrightObserversRecorder;
 import io.quarkiverse.playwright.PlaywrightRecorder;
+import io.quarkiverse.playwright.ProtocolAdaptersRecorder;
+import io.quarkiverse.playwright.ReactivePlaywright;
+import io.quarkiverse.playwright.graal.ProtocolAccessor;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.SynthesisFinishedBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.IsNormal;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Produce;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.CuratedApplicationShutdownBuildItem;
 import io.quarkus.deployment.builditem.DevServicesResultBuildItem;
 import io.quarkus.deployment.builditem.DockerStatusBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.NativeImageEnableAllCharsetsBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourcePatternsBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.deployment.pkg.NativeConfig;
+import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.deployment.pkg.builditem.NativeImageBuildItem;
+import io.quarkus.deployment.pkg.builditem.NativeImageRunnerBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.logging.Log;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 class PlaywrightProcessor {
 
     private static final String FEATURE = "playwright";
     private static final String PLAYWRIGHT_ENDPOINT_CONFIG = "quarkus.playwright.endpoint";
+    private static final String PLAYWRIGHT_ENDPOINTS_CONFIG = "quarkus.playwright.endpoints";
+    private static final List<String> DRIVER_PLATFORMS = List.of("linux", "linux-arm64", "mac", "mac-arm64", "win32_x64");
 
     private static volatile DevServicesResultBuildItem.RunningDevService runningDevService;
     private static volatile PlaywrightServerContainer.PlaywrightDevServiceConfiguration capturedDevServiceConfiguration;
@@ -65,161 +94,206 @@ class PlaywrightProcessor {
     }
 
     @BuildStep
-    NativeImageEnableAllCharsetsBuildItem enableAllCharsetsBuildItem() {
-        return new NativeImageEnableAllCharsetsBuildItem();
+    NativeImageEnableAllCharsetsBuildItem enableAllCharsetsBuildItem(PlaywrightBuildTimeConfig config) {
+        return config.driver().addAllCharsets() ? new NativeImageEnableAllCharsetsBuildItem() : null;
     }
 
     @BuildStep
-    void registerForReflection(CombinedIndexBuildItem combinedIndex, BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
-        //@formatter:off
-        final List<String> classNames = new ArrayList<>();
-
-        classNames.add("com.microsoft.playwright.impl.Message");
-        classNames.add("com.microsoft.playwright.impl.SerializedArgument");
-        classNames.add("com.microsoft.playwright.impl.SerializedValue");
-        classNames.add("com.microsoft.playwright.impl.SerializedValue$O");
-        classNames.add("com.microsoft.playwright.impl.SerializedError");
-        classNames.add("com.microsoft.playwright.impl.SerializedError$Error");
-        classNames.add("com.microsoft.playwright.options.WebErrorLocation");
-        classNames.add(Browser.CloseOptions.class.getName());
-        classNames.add(Browser.NewContextOptions.class.getName());
-        classNames.add(Browser.NewPageOptions.class.getName());
-        classNames.add(Browser.StartTracingOptions.class.getName());
-        classNames.add(DriverJar.class.getName());
-        classNames.add(ElementHandle.CheckOptions.class.getName());
-        classNames.add(ElementHandle.ClickOptions.class.getName());
-        classNames.add(ElementHandle.DblclickOptions.class.getName());
-        classNames.add(ElementHandle.FillOptions.class.getName());
-        classNames.add(ElementHandle.HoverOptions.class.getName());
-        classNames.add(ElementHandle.InputValueOptions.class.getName());
-        classNames.add(ElementHandle.PressOptions.class.getName());
-        classNames.add(ElementHandle.ScreenshotOptions.class.getName());
-        classNames.add(ElementHandle.ScrollIntoViewIfNeededOptions.class.getName());
-        classNames.add(ElementHandle.SelectTextOptions.class.getName());
-        classNames.add(ElementHandle.SetCheckedOptions.class.getName());
-        classNames.add(ElementHandle.SetInputFilesOptions.class.getName());
-        classNames.add(ElementHandle.TapOptions.class.getName());
-        classNames.add(ElementHandle.TypeOptions.class.getName());
-        classNames.add(ElementHandle.UncheckOptions.class.getName());
-        classNames.add(ElementHandle.WaitForElementStateOptions.class.getName());
-        classNames.add(ElementHandle.WaitForSelectorOptions.class.getName());
-        classNames.add(HttpHeader.class.getName());
-        classNames.add(Timing.class.getName());
-        classNames.add(ViewportSize.class.getName());
-        classNames.add(Frame.AddScriptTagOptions.class.getName());
-        classNames.add(Frame.AddStyleTagOptions.class.getName());
-        classNames.add(Frame.CheckOptions.class.getName());
-        classNames.add(Frame.ClickOptions.class.getName());
-        classNames.add(Frame.DblclickOptions.class.getName());
-        classNames.add(Frame.DispatchEventOptions.class.getName());
-        classNames.add(Frame.FillOptions.class.getName());
-        classNames.add(Frame.FocusOptions.class.getName());
-        classNames.add(Frame.GetAttributeOptions.class.getName());
-        classNames.add(Frame.GetByRoleOptions.class.getName());
-        classNames.add(Frame.GetByTextOptions.class.getName());
-        classNames.add(Frame.HoverOptions.class.getName());
-        classNames.add(Frame.InnerHTMLOptions.class.getName());
-        classNames.add(Frame.InnerTextOptions.class.getName());
-        classNames.add(Frame.InputValueOptions.class.getName());
-        classNames.add(Frame.IsVisibleOptions.class.getName());
-        classNames.add(Frame.LocatorOptions.class.getName());
-        classNames.add(Frame.PressOptions.class.getName());
-        classNames.add(Frame.SelectOptionOptions.class.getName());
-        classNames.add(Frame.SetContentOptions.class.getName());
-        classNames.add(Frame.SetInputFilesOptions.class.getName());
-        classNames.add(Frame.TapOptions.class.getName());
-        classNames.add(Frame.TextContentOptions.class.getName());
-        classNames.add(Frame.TypeOptions.class.getName());
-        classNames.add(Frame.UncheckOptions.class.getName());
-        classNames.add(Frame.UncheckOptions.class.getName());
-        classNames.add(Frame.WaitForFunctionOptions.class.getName());
-        classNames.add(Frame.WaitForLoadStateOptions.class.getName());
-        classNames.add(Frame.WaitForSelectorOptions.class.getName());
-        classNames.add(Frame.WaitForURLOptions.class.getName());
-        classNames.add(Page.AddScriptTagOptions.class.getName());
-        classNames.add(Page.AddStyleTagOptions.class.getName());
-        classNames.add(Page.CheckOptions.class.getName());
-        classNames.add(Page.ClickOptions.class.getName());
-        classNames.add(Page.CloseOptions.class.getName());
-        classNames.add(Page.DblclickOptions.class.getName());
-        classNames.add(Page.DispatchEventOptions.class.getName());
-        classNames.add(Page.DragAndDropOptions.class.getName());
-        classNames.add(Page.EmulateMediaOptions.class.getName());
-        classNames.add(Page.EvalOnSelectorOptions.class.getName());
-        classNames.add(Page.FillOptions.class.getName());
-        classNames.add(Page.FocusOptions.class.getName());
-        classNames.add(Page.GetAttributeOptions.class.getName());
-        classNames.add(Page.GetByAltTextOptions.class.getName());
-        classNames.add(Page.GetByLabelOptions.class.getName());
-        classNames.add(Page.GetByPlaceholderOptions.class.getName());
-        classNames.add(Page.GetByRoleOptions.class.getName());
-        classNames.add(Page.GetByTextOptions.class.getName());
-        classNames.add(Page.GetByTitleOptions.class.getName());
-        classNames.add(Page.GoBackOptions.class.getName());
-        classNames.add(Page.GoForwardOptions.class.getName());
-        classNames.add(Page.NavigateOptions.class.getName());
-        classNames.add(Page.HoverOptions.class.getName());
-        classNames.add(Page.InnerHTMLOptions.class.getName());
-        classNames.add(Page.InnerTextOptions.class.getName());
-        classNames.add(Page.InputValueOptions.class.getName());
-        classNames.add(Page.IsCheckedOptions.class.getName());
-        classNames.add(Page.IsDisabledOptions.class.getName());
-        classNames.add(Page.IsEditableOptions.class.getName());
-        classNames.add(Page.IsEnabledOptions.class.getName());
-        classNames.add(Page.IsHiddenOptions.class.getName());
-        classNames.add(Page.IsVisibleOptions.class.getName());
-        classNames.add(Page.ConsoleMessagesOptions.class.getName());
-        classNames.add(Page.LocatorOptions.class.getName());
-        classNames.add(Page.PdfOptions.class.getName());
-        classNames.add(Page.PressOptions.class.getName());
-        classNames.add(Page.QuerySelectorOptions.class.getName());
-        classNames.add(Page.AddLocatorHandlerOptions.class.getName());
-        classNames.add(Page.ReloadOptions.class.getName());
-        classNames.add(Page.RouteOptions.class.getName());
-        classNames.add(Page.RouteFromHAROptions.class.getName());
-        classNames.add(Page.ScreenshotOptions.class.getName());
-        classNames.add(Page.SelectOptionOptions.class.getName());
-        classNames.add(Page.SetCheckedOptions.class.getName());
-        classNames.add(Page.SetContentOptions.class.getName());
-        classNames.add(Page.SetInputFilesOptions.class.getName());
-        classNames.add(Page.AriaSnapshotOptions.class.getName());
-        classNames.add(Page.TapOptions.class.getName());
-        classNames.add(Page.TextContentOptions.class.getName());
-        classNames.add(Page.TypeOptions.class.getName());
-        classNames.add(Page.UncheckOptions.class.getName());
-        classNames.add(Page.WaitForCloseOptions.class.getName());
-        classNames.add(Page.WaitForConsoleMessageOptions.class.getName());
-        classNames.add(Page.WaitForDownloadOptions.class.getName());
-        classNames.add(Page.WaitForFileChooserOptions.class.getName());
-        classNames.add(Page.WaitForFunctionOptions.class.getName());
-        classNames.add(Page.WaitForLoadStateOptions.class.getName());
-        classNames.add(Page.WaitForNavigationOptions.class.getName());
-        classNames.add(Page.WaitForPopupOptions.class.getName());
-        classNames.add(Page.WaitForRequestOptions.class.getName());
-        classNames.add(Page.WaitForRequestFinishedOptions.class.getName());
-        classNames.add(Page.WaitForResponseOptions.class.getName());
-        classNames.add(Page.WaitForSelectorOptions.class.getName());
-        classNames.add(Page.WaitForConditionOptions.class.getName());
-        classNames.add(Page.WaitForURLOptions.class.getName());
-        classNames.add(Page.WaitForWebSocketOptions.class.getName());
-        classNames.add(Page.WaitForWorkerOptions.class.getName());
-        classNames.addAll(collectImplementors(combinedIndex, Playwright.class.getName()));
-
-        //@formatter:on
-        final TreeSet<String> uniqueClasses = new TreeSet<>(classNames);
-        Log.debugf("Playwright Reflection: %s", uniqueClasses);
-
-        reflectiveClass.produce(
-                ReflectiveClassBuildItem.builder(uniqueClasses.toArray(new String[0])).constructors().methods().fields()
-                        .serialization().unsafeAllocated().build());
+    PlaywrightReflectiveClassesBuildItem registerForReflection(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        final Map<String, PlaywrightReflectiveClasses.Registration> registrations = PlaywrightReflectiveClasses
+                .collect(combinedIndex.getIndex());
+        Log.debugf("Playwright Reflection: %s", registrations.keySet());
+
+        // one build item per combination of members
+        registrations.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> entry.getValue().members(),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((members, classNames) -> reflectiveClass
+                        .produce(PlaywrightReflectiveClasses.reflectiveClass(members, classNames)));
+        return new PlaywrightReflectiveClassesBuildItem(registrations);
+    }
+
+    @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
+    @Record(ExecutionTime.STATIC_INIT)
+    void generateProtocolAdapters(ProtocolAdaptersRecorder recorder, RecorderContext recorderContext,
+            CombinedIndexBuildItem combinedIndex, BuildProducer<GeneratedClassBuildItem> generatedClasses) {
+        // generated next to the protocol classes, outside of the application
+        final List<String> accessors = PlaywrightProtocolAccessors.generate(combinedIndex.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, false));
+        Log.debugf("Playwright Protocol Accessors: %s", accessors);
+        final List<RuntimeValue<ProtocolAccessor>> instances = new ArrayList<>();
+        for (String accessor : accessors) {
+            instances.add(recorderContext.newInstance(accessor));
+        }
+        recorder.install(instances);
+    }
+
+    @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
+    void reportReflection(PlaywrightReflectiveClassesBuildItem reflectiveClasses, OutputTargetBuildItem outputTarget)
+            throws IOException {
+        final Path report = outputTarget.getOutputDirectory().resolve("playwright-reflection.txt");
+        final List<String> lines = new ArrayList<>();
+        reflectiveClasses.getRegistrations().forEach((className, registration) -> lines
+                .add(className + " " + registration.members() + " " + registration.reason()));
+        Files.write(report, lines);
+        Log.infof("Registered %d Playwright classes for reflection, see %s", lines.size(), report);
     }
 
     @BuildStep(onlyIf = IsNormal.class)
     @Record(ExecutionTime.RUNTIME_INIT)
+    @Produce(PlaywrightDriverInitializedBuildItem.class)
     void registerRuntimeDrivers(PlaywrightRecorder recorder) {
         recorder.initialize();
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Produce(PlaywrightDriverInitializedBuildItem.class)
+    void configureDriverCache(PlaywrightRecorder recorder, PlaywrightBuildTimeConfig config, LaunchModeBuildItem launchMode) {
+        recorder.configureDriverCache(launchMode.getLaunchMode().isProduction() && config.driver().preExtract());
+    }
+
+    @BuildStep(onlyIf = IsNormal.class, onlyIfNot = NativeOrNativeSourcesBuild.class)
+    ArtifactResultBuildItem preExtractJarDriver(PlaywrightBuildTimeConfig config, JarBuildItem jar) throws IOException {
+        // quarkus-app for fast-jar packaging
+        return preExtractDriver(config, false, jar.getPath());
+    }
+
+    @BuildStep(onlyIf = { IsNormal.class, NativeBuild.class })
+    ArtifactResultBuildItem preExtractNativeDriver(PlaywrightBuildTimeConfig config, NativeImageRunnerBuildItem runner,
+            NativeImageBuildItem nativeImage) throws IOException {
+        return preExtractDriver(config, runner.isContainerBuild(), nativeImage.getPath());
+    }
+
+    /**
+     * @param containerBuild whether the native executable is built in a container, as decided by the native build
+     */
+    private static String targetPlatform(PlaywrightBuildTimeConfig config, boolean containerBuild) {
+        final String platform = config.driver().platform().orElseGet(() -> defaultPlatform(containerBuild));
+        if (!DRIVER_PLATFORMS.contains(platform)) {
+            throw new ConfigurationException(
+                    "Unsupported Playwright driver platform '" + platform + "', expected one of " + DRIVER_PLATFORMS,
+                    Set.of("quarkus.playwright.driver.platform"));
+        }
+        return platform;
+    }
+
+    /**
+     * The platform of the build, or the Linux platform of the same architecture when the native executable is built in
+     * a container, locally or remotely, whatever the OS of the build. The native build also falls back to a container
+     * when no GraalVM is installed, so the decision is the one of its runner, not of the configuration.
+     */
+    static String defaultPlatform(boolean containerBuild) {
+        final String platform = CachedDriver.platform();
+        if (containerBuild) {
+            return platform.endsWith("arm64") ? "linux-arm64" : "linux";
+        }
+        return platform;
+    }
+
+    private static ArtifactResultBuildItem preExtractDriver(PlaywrightBuildTimeConfig config, boolean containerBuild,
+            Path runner) throws IOException {
+        if (!config.driver().preExtract()) {
+            return null;
+        }
+        final Path directory = runner.toAbsolutePath().getParent().resolve(CachedDriver.PACKAGED_DIR_NAME);
+        final String platform = targetPlatform(config, containerBuild);
+        final Path driver = CachedDriver.extract(directory, platform);
+        // drop the drivers of previous Playwright versions
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.filter(entry -> !entry.equals(driver)).forEach(IoUtils::recursiveDelete);
+        }
+        Log.infof("Playwright driver for %s extracted to %s", platform, driver);
+        return new ArtifactResultBuildItem(directory, "playwright-driver", Map.of());
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem registerBeans() {
+        return AdditionalBeanBuildItem.builder()
+                .addBeanClasses(BrowserPool.class, BrowserContextPool.class, PlaywrightDispatcher.class,
+                        ReactivePlaywright.class)
+                .build();
+    }
+
+    @BuildStep
+    BytecodeTransformerBuildItem observeConnections() {
+        return new BytecodeTransformerBuildItem(PlaywrightConnectionTransformer.CONNECTION_CLASS,
+                new PlaywrightConnectionTransformer());
+    }
+
+    @BuildStep
+    UnremovableBeanBuildItem keepObservers() {
+        return UnremovableBeanBuildItem.beanTypes(PlaywrightObserver.class);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Consume(SyntheticBeansRuntimeInitBuildItem.class)
+    @Produce(PlaywrightObserversRegisteredBuildItem.class)
+    void registerObservers(PlaywrightObserversRecorder recorder, ShutdownContextBuildItem shutdown) {
+        // before the warm-up, so that the observers see the browsers it starts
+        recorder.registerObservers(shutdown);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Consume(SyntheticBeansRuntimeInitBuildItem.class)
+    @Produce(PlaywrightObserversRegisteredBuildItem.class)
+    void registerTracing(PlaywrightObserversRecorder recorder, PlaywrightBuildTimeConfig config, Capabilities capabilities,
+            ShutdownContextBuildItem shutdown) {
+        if (config.tracing().enabled() && capabilities.isPresent(Capability.OPENTELEMETRY_TRACER)) {
+            recorder.registerTracing(shutdown);
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Produce(PlaywrightObserversRegisteredBuildItem.class)
+    void registerFlightRecorder(PlaywrightObserversRecorder recorder, PlaywrightBuildTimeConfig config,
+            ShutdownContextBuildItem shutdown) {
+        if (config.jfr().enabled()) {
+            recorder.registerFlightRecorder(shutdown);
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem registerMetrics(PlaywrightObserversRecorder recorder, PlaywrightBuildTimeConfig config,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, ShutdownContextBuildItem shutdown) {
+        if (!config.metrics().enabled() || metricsCapability.isEmpty()
+                || !metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            return null;
+        }
+        return new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(shutdown));
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void shutdownEndpointBalancers(PlaywrightRecorder recorder, ShutdownContextBuildItem shutdown) {
+        recorder.shutdownEndpointBalancers(shutdown);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Consume(SyntheticBeansRuntimeInitBuildItem.class)
+    @Consume(PlaywrightDriverInitializedBuildItem.class)
+    @Consume(PlaywrightObserversRegisteredBuildItem.class)
+    void warmUp(PlaywrightRecorder recorder, SynthesisFinishedBuildItem synthesisFinished) {
+        // the pool beans are removed when the application does not inject them
+        final boolean contextPool = isBeanUsed(synthesisFinished, BrowserContextPool.class);
+        if (contextPool || isBeanUsed(synthesisFinished, BrowserPool.class)) {
+            recorder.warmUpBrowserPool(contextPool);
+        }
+        if (isBeanUsed(synthesisFinished, PlaywrightDispatcher.class)) {
+            recorder.warmUpDispatcher();
+        }
+    }
+
+    private static boolean isBeanUsed(SynthesisFinishedBuildItem synthesisFinished, Class<?> beanClass) {
+        return !synthesisFinished.beanStream().withBeanClass(beanClass).isEmpty();
+    }
+
     @BuildStep(onlyIfNot = IsNormal.class)
     DevServicesResultBuildItem startPlaywrightDevService(
             LaunchModeBuildItem launchMode,
@@ -236,15 +310,18 @@ class PlaywrightProcessor {
             return null;
         }
 
-        if (!dockerStatus.isContainerRuntimeAvailable()) {
-            Log.warn("Docker is not available, Playwright Dev Services will not start");
-            return null;
-        }
-
         final PlaywrightServerContainer.PlaywrightDevServiceConfiguration currentConfiguration = new PlaywrightServerContainer.PlaywrightDevServiceConfiguration(
                 config.devservices().imageName(),
                 config.devservices().verbose(),
-                config.devservices().sharedNetwork());
+                config.devservices().sharedNetwork(),
+                config.devservices().buildImage(),
+                config.devservices().serverImage().orElse(null),
+                config.devservices().instances(),
+                config.devservices().reuse(),
+                config.devservices().idleTimeout(),
+                config.devservices().asyncStart(),
+                config.devservices().warmUpBrowsers(),
+                config.devservices().keepWarm());
 
         if (runningDevService != null && Objects.equals(currentConfiguration, capturedDevServiceConfiguration)) {
             return runningDevService.toBuildItem();
@@ -252,6 +329,14 @@ class PlaywrightProcessor {
 
         closeRunningDevService();
 
+        if (!dockerStatus.isContainerRuntimeAvailable()) {
+            if (!config.devservices().localFallback()) {
+                Log.warn("Docker is not available, Playwright Dev Services will not start");
+                return null;
+            }
+            return startLocalServer(currentConfiguration, shutdown);
+        }
+
         if (currentConfiguration.sharedNetwork()) {
             final int httpTestPort = ConfigProvider.getConfig()
                     .getOptionalValue("quarkus.http.test-port", Integer.class)
@@ -259,61 +344,73 @@ class PlaywrightProcessor {
             Testcontainers.exposeHostPorts(httpTestPort);
         }
 
-        final PlaywrightServerContainer container = new PlaywrightServerContainer(currentConfiguration);
-        container.start();
+        final PlaywrightDevServers servers = PlaywrightDevServers.start(currentConfiguration);
 
-        final String endpoint = String.format("ws://%s:%d/", container.getHost(),
-                container.getMappedPort(PlaywrightServerContainer.PLAYWRIGHT_SERVER_PORT));
-        final Map<String, String> devServiceConfig = Map.of(PLAYWRIGHT_ENDPOINT_CONFIG, endpoint);
+        final List<String> endpoints = servers.endpoints();
+        final Map<String, String> devServiceConfig = new HashMap<>();
+        devServiceConfig.put(PLAYWRIGHT_ENDPOINT_CONFIG, endpoints.get(0));
+        if (endpoints.size() > 1) {
+            devServiceConfig.put(PLAYWRIGHT_ENDPOINTS_CONFIG, String.join(",", endpoints));
+        }
+        servers.readyBy().ifPresent(readyBy -> devServiceConfig.put(DevServicesEndpoints.READY_BY, String.valueOf(readyBy)));
 
         runningDevService = new DevServicesResultBuildItem.RunningDevService(
                 FEATURE,
                 "Playwright browser server",
-                container.getContainerId(),
-                container::stop,
+                servers.containerId(),
+                servers,
                 devServiceConfig);
         capturedDevServiceConfiguration = currentConfiguration;
 
         if (shutdown != null) {
             shutdown.addCloseTask(PlaywrightProcessor::closeRunningDevService, true);
         }
-        Log.infof("Playwright Dev Services started at %s using image %s", endpoint, config.devservices().imageName());
 
         return runningDevService.toBuildItem();
     }
 
-    @BuildStep(onlyIf = IsNormal.class)
-    void registerNativeDrivers(BuildProducer<NativeImageResourcePatternsBuildItem> nativeImageResourcePatterns) {
-        final NativeImageResourcePatternsBuildItem.Builder builder = NativeImageResourcePatternsBuildItem.builder();
-        builder.includeGlob("driver/**");
-        nativeImageResourcePatterns.produce(builder.build());
-    }
+    /**
+     * Starts a Playwright server process on the host, shared by the test classes like a container would be.
+     */
+    private static DevServicesResultBuildItem startLocalServer(
+            PlaywrightServerContainer.PlaywrightDevServiceConfiguration configuration,
+            CuratedApplicationShutdownBuildItem shutdown) {
+        final PlaywrightLocalServer server;
+        try {
+            server = PlaywrightLocalServer.start(configuration.verbose());
+        } catch (RuntimeException e) {
+            Log.warn("Docker is not available and the local Playwright server failed to start, Playwright Dev Services "
+                    + "will not start", e);
+            return null;
+        }
 
-    private List<String> collectSubclasses(CombinedIndexBuildItem combinedIndex, String className) {
-        List<String> classes = combinedIndex.getIndex()
-                .getAllKnownSubclasses(DotName.createSimple(className))
-                .stream()
-                .map(ClassInfo::toString)
-                .collect(Collectors.toList());
-        classes.add(className);
-        Log.debugf("Subclasses: %s", classes);
-        return classes;
-    }
+        runningDevService = new DevServicesResultBuildItem.RunningDevService(
+                FEATURE,
+                "Playwright browser server (local process)",
+                server,
+                Map.of(PLAYWRIGHT_ENDPOINT_CONFIG, server.endpoint()));
+        capturedDevServiceConfiguration = configuration;
 
-    private List<String> collectImplementors(CombinedIndexBuildItem combinedIndex, String className) {
-        Set<String> classes = combinedIndex.getIndex()
-                .getAllKnownImplementations(DotName.createSimple(className))
-                .stream()
-                .map(ClassInfo::toString)
-                .collect(Collectors.toCollection(HashSet::new));
-        classes.add(className);
-        Set<String> subclasses = new HashSet<>();
-        for (String implementationClass : classes) {
-            subclasses.addAll(collectSubclasses(combinedIndex, implementationClass));
+        if (shutdown != null) {
+            shutdown.addCloseTask(PlaywrightProcessor::closeRunningDevService, true);
         }
-        classes.addAll(subclasses);
-        Log.debugf("Implementors: %s", classes);
-        return new ArrayList<>(classes);
+        Log.infof("Docker is not available, Playwright Dev Services started a local Playwright server at %s",
+                server.endpoint());
+
+        return runningDevService.toBuildItem();
+    }
+
+    @BuildStep(onlyIf = IsNormal.class)
+    void registerNativeDrivers(PlaywrightBuildTimeConfig config, Optional<NativeImageRunnerBuildItem> runner,
+            BuildProducer<NativeImageResourcePatternsBuildItem> nativeImageResourcePatterns) {
+        final NativeImageResourcePatternsBuildItem.Builder builder = NativeImageResourcePatternsBuildItem.builder();
+        // the Node.js binaries of the other platforms would add hundreds of MB to the executable
+        builder.includeGlob("driver/package/**");
+        builder.includeGlob("driver/"
+                + targetPlatform(config, runner.map(NativeImageRunnerBuildItem::isContainerBuild).orElse(false)) + "/**");
+        // read by CachedDriver to key the driver cache
+        builder.includeGlob("META-INF/maven/com.microsoft.playwright/*/pom.properties");
+        nativeImageResourcePatterns.produce(builder.build());
     }
 
     private static synchronized void closeRunningDevService() {
@@ -328,4 +425,38 @@ class PlaywrightProcessor {
         }
     }
 
+    /**
+     * Whether the build produces a native executable, like the deprecated predicate of the same name in
+     * {@code io.quarkus.deployment.pkg.steps}.
+     */
+    static final class NativeBuild implements BooleanSupplier {
+
+        private final NativeConfig nativeConfig;
+
+        NativeBuild(NativeConfig nativeConfig) {
+            this.nativeConfig = nativeConfig;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return nativeConfig.enabled() && !nativeConfig.sourcesOnly();
+        }
+    }
+
+    /**
+     * Whether the build produces a native executable or only its sources.
+     */
+    static final class NativeOrNativeSourcesBuild implements BooleanSupplier {
+
+        private final NativeConfig nativeConfig;
+
+        NativeOrNativeSourcesBuild(NativeConfig nativeConfig) {
+            this.nativeConfig = nativeConfig;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return nativeConfig.enabled();
+        }
+    }
 }
@@ -0,0 +1,193 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkiverse.playwright.graal.ProtocolAccessor;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates the {@link ProtocolAccessor}s of the classes Playwright exchanges with its driver on every message, so that
+ * Gson does not need reflection to (de)serialize them in a native executable.
+ * <p>
+ * An accessor is generated in the package of its protocol class to reach its package-private fields. Protocol classes
+ * whose shape does not allow it, after a Playwright upgrade for instance, are left to the reflective adapter of Gson.
+ * </p>
+ */
+final class PlaywrightProtocolAccessors {
+
+    static final List<String> PROTOCOL_CLASSES = List.of(
+            "com.microsoft.playwright.impl.Message",
+            "com.microsoft.playwright.impl.Channel",
+            "com.microsoft.playwright.impl.SerializedArgument",
+            "com.microsoft.playwright.impl.SerializedError",
+            "com.microsoft.playwright.impl.SerializedError$Error",
+            "com.microsoft.playwright.impl.SerializedValue",
+            "com.microsoft.playwright.impl.SerializedValue$E",
+            "com.microsoft.playwright.impl.SerializedValue$O",
+            "com.microsoft.playwright.impl.SerializedValue$R");
+
+    private static final String ACCESSOR_SUFFIX = "$$QuarkusProtocolAccessor";
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(
+            boolean.class, Boolean.class, byte.class, Byte.class, char.class, Character.class, short.class, Short.class,
+            int.class, Integer.class, long.class, Long.class, float.class, Float.class, double.class, Double.class);
+
+    private PlaywrightProtocolAccessors() {
+    }
+
+    /**
+     * @return the protocol classes an accessor can be generated for
+     */
+    static Set<String> supportedClasses(IndexView index) {
+        return fieldsByClass(index).keySet();
+    }
+
+    /**
+     * Generates the accessors of the supported protocol classes.
+     *
+     * @return the names of the generated accessors
+     */
+    static List<String> generate(IndexView index, ClassOutput output) {
+        final List<String> accessors = new ArrayList<>();
+        fieldsByClass(index).forEach((className, fields) -> accessors.add(generate(className, fields, output)));
+        return accessors;
+    }
+
+    private static Map<String, List<FieldInfo>> fieldsByClass(IndexView index) {
+        final Map<String, List<FieldInfo>> fieldsByClass = new LinkedHashMap<>();
+        for (String className : PROTOCOL_CLASSES) {
+            final ClassInfo classInfo = index.getClassByName(DotName.createSimple(className));
+            if (classInfo == null || !classInfo.hasNoArgsConstructor()
+                    || Modifier.isPrivate(classInfo.method("<init>").flags())) {
+                continue;
+            }
+            final List<FieldInfo> fields = new ArrayList<>();
+            boolean supported = true;
+            for (FieldInfo field : classInfo.fields()) {
+                final int flags = field.flags();
+                if (Modifier.isStatic(flags) || Modifier.isTransient(flags) || field.isSynthetic()) {
+                    continue;
+                }
+                supported &= !Modifier.isPrivate(flags) && !Modifier.isFinal(flags) && isRawType(field.type());
+                fields.add(field);
+            }
+            if (supported) {
+                fieldsByClass.put(className, fields);
+            }
+        }
+        return fieldsByClass;
+    }
+
+    /**
+     * Generic field types would need a {@code TypeToken} to keep their type arguments.
+     */
+    private static boolean isRawType(Type type) {
+        return switch (type.kind()) {
+            case PRIMITIVE, CLASS -> true;
+            case ARRAY -> isRawType(type.asArrayType().elementType());
+            default -> false;
+        };
+    }
+
+    private static String generate(String className, List<FieldInfo> fields, ClassOutput output) {
+        final String accessorName = className + ACCESSOR_SUFFIX;
+        try (ClassCreator creator = ClassCreator.builder().classOutput(output).className(accessorName)
+                .interfaces(ProtocolAccessor.class).build()) {
+            try (MethodCreator type = creator.getMethodCreator("type", Class.class)) {
+                type.returnValue(type.loadClass(className));
+            }
+            try (MethodCreator fieldNames = creator.getMethodCreator("fieldNames", String[].class)) {
+                final ResultHandle names = fieldNames.newArray(String.class, fields.size());
+                for (int i = 0; i < fields.size(); i++) {
+                    fieldNames.writeArrayValue(names, i, fieldNames.load(fields.get(i).name()));
+                }
+                fieldNames.returnValue(names);
+            }
+            try (MethodCreator fieldTypes = creator.getMethodCreator("fieldTypes", Class[].class)) {
+                final ResultHandle types = fieldTypes.newArray(Class.class, fields.size());
+                for (int i = 0; i < fields.size(); i++) {
+                    fieldTypes.writeArrayValue(types, i, fieldTypes.loadClass(typeName(fields.get(i).type())));
+                }
+                fieldTypes.returnValue(types);
+            }
+            try (MethodCreator newInstance = creator.getMethodCreator("newInstance", Object.class)) {
+                newInstance.returnValue(newInstance.newInstance(MethodDescriptor.ofConstructor(className)));
+            }
+            try (MethodCreator get = creator.getMethodCreator("get", Object.class, Object.class, int.class)) {
+                for (int i = 0; i < fields.size(); i++) {
+                    final FieldInfo field = fields.get(i);
+                    final BytecodeCreator matches = get.ifIntegerEqual(get.getMethodParam(1), get.load(i)).trueBranch();
+                    final ResultHandle value = matches.readInstanceField(field,
+                            matches.checkCast(matches.getMethodParam(0), className));
+                    matches.returnValue(box(matches, field.type(), value));
+                }
+                get.throwException(IllegalArgumentException.class, "Unknown field of " + className);
+            }
+            try (MethodCreator set = creator.getMethodCreator("set", void.class, Object.class, int.class,
+                    Object.class)) {
+                for (int i = 0; i < fields.size(); i++) {
+                    final FieldInfo field = fields.get(i);
+                    final BytecodeCreator matches = set.ifIntegerEqual(set.getMethodParam(1), set.load(i)).trueBranch();
+                    matches.writeInstanceField(field, matches.checkCast(matches.getMethodParam(0), className),
+                            unbox(matches, field.type(), matches.getMethodParam(2)));
+                    matches.returnVoid();
+                }
+                set.throwException(IllegalArgumentException.class, "Unknown field of " + className);
+            }
+        }
+        return accessorName;
+    }
+
+    private static String typeName(Type type) {
+        // the binary name, such as [Lcom.microsoft.playwright.impl.Channel; for arrays
+        return type.kind() == Type.Kind.PRIMITIVE ? type.asPrimitiveType().name().toString() : type.name().toString();
+    }
+
+    private static ResultHandle box(BytecodeCreator creator, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return value;
+        }
+        final Class<?> primitive = primitiveClass(type.asPrimitiveType());
+        final Class<?> wrapper = WRAPPERS.get(primitive);
+        return creator.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, primitive), value);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator creator, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return creator.checkCast(value, typeName(type));
+        }
+        final Class<?> primitive = primitiveClass(type.asPrimitiveType());
+        final Class<?> wrapper = WRAPPERS.get(primitive);
+        return creator.invokeVirtualMethod(MethodDescriptor.ofMethod(wrapper, primitive.getName() + "Value", primitive),
+                creator.checkCast(value, wrapper));
+    }
+
+    private static Class<?> primitiveClass(PrimitiveType type) {
+        return switch (type.primitive()) {
+            case BOOLEAN -> boolean.class;
+            case BYTE -> byte.class;
+            case CHAR -> char.class;
+            case SHORT -> short.class;
+            case INT -> int.class;
+            case LONG -> long.class;
+            case FLOAT -> float.class;
+            case DOUBLE -> double.class;
+        };
+    }
+}
@@ -0,0 +1,168 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+
+/**
+ * Works out from the Jandex index which Playwright classes need reflection in a native executable, and which of their
+ * members.
+ * <p>
+ * Playwright only uses reflection in three places: Gson (de)serializes the protocol messages and the {@code Options}
+ * and {@code options} value classes through their fields, {@code Utils.convertType} copies the fields of an
+ * {@code Options} class into a new instance of another one, and {@code Driver.newInstance} instantiates the driver by
+ * name. The reflectively accessed classes are therefore the plain data classes of Playwright, whose instance methods
+ * are all setters, and the classes and enums reachable from their fields. None of them needs its methods registered.
+ * </p>
+ * <p>
+ * The protocol classes with a generated {@link PlaywrightProtocolAccessors accessor} are not registered.
+ * </p>
+ */
+final class PlaywrightReflectiveClasses {
+
+    static final String PLAYWRIGHT_PACKAGE = "com.microsoft.playwright.";
+
+    private static final String OPTIONS_PACKAGE = PLAYWRIGHT_PACKAGE + "options.";
+    private static final String JUNIT_PACKAGE = PLAYWRIGHT_PACKAGE + "impl.junit.";
+    private static final List<String> DRIVERS = List.of("com.microsoft.playwright.impl.driver.jar.DriverJar",
+            "io.quarkiverse.playwright.CachedDriver");
+
+    enum Member {
+        CONSTRUCTORS,
+        FIELDS,
+        UNSAFE_ALLOCATION
+    }
+
+    record Registration(Set<Member> members, String reason) {
+    }
+
+    private PlaywrightReflectiveClasses() {
+    }
+
+    /**
+     * @return the registrations, keyed and sorted by class name
+     */
+    static Map<String, Registration> collect(IndexView index) {
+        final Map<String, Registration> registrations = new TreeMap<>();
+        for (String driver : DRIVERS) {
+            registrations.put(driver,
+                    new Registration(EnumSet.of(Member.CONSTRUCTORS), "driver instantiated by Driver.newInstance"));
+        }
+        final Set<String> generated = PlaywrightProtocolAccessors.supportedClasses(index);
+        final Deque<ClassInfo> pending = new ArrayDeque<>();
+        for (ClassInfo classInfo : index.getKnownClasses()) {
+            final String name = classInfo.name().toString();
+            if (name.startsWith(PLAYWRIGHT_PACKAGE) && !name.startsWith(JUNIT_PACKAGE) && !generated.contains(name)
+                    && isDataClass(classInfo)) {
+                registrations.put(name, dataClass(classInfo, name.endsWith("Options")
+                        ? "options serialized by Gson and copied by Utils.convertType"
+                        : "data class (de)serialized by Gson"));
+                pending.add(classInfo);
+            }
+        }
+        // the types of the serialized fields are serialized as well
+        while (!pending.isEmpty()) {
+            final ClassInfo owner = pending.poll();
+            for (FieldInfo field : owner.fields()) {
+                if (Modifier.isStatic(field.flags())) {
+                    continue;
+                }
+                final ClassInfo type = index.getClassByName(elementTypeName(field.type()));
+                if (type == null || !type.name().toString().startsWith(PLAYWRIGHT_PACKAGE)
+                        || registrations.containsKey(type.name().toString())
+                        || generated.contains(type.name().toString())) {
+                    continue;
+                }
+                final String reason = "type of field " + owner.name() + "." + field.name();
+                if (type.isEnum()) {
+                    registrations.put(type.name().toString(),
+                            new Registration(EnumSet.of(Member.FIELDS), "enum constants read by Gson, " + reason));
+                } else if (!type.isInterface() && !type.isAbstract()) {
+                    registrations.put(type.name().toString(), dataClass(type, reason));
+                    pending.add(type);
+                }
+            }
+        }
+        return registrations;
+    }
+
+    /**
+     * @return the registration of the given classes, for the given members only
+     */
+    static ReflectiveClassBuildItem reflectiveClass(Set<Member> members, List<String> classNames) {
+        return ReflectiveClassBuildItem.builder(classNames.toArray(new String[0]))
+                .constructors(members.contains(Member.CONSTRUCTORS))
+                .fields(members.contains(Member.FIELDS))
+                .unsafeAllocated(members.contains(Member.UNSAFE_ALLOCATION))
+                .methods(false)
+                .reason(PlaywrightReflectiveClasses.class.getName())
+                .build();
+    }
+
+    private static Registration dataClass(ClassInfo classInfo, String reason) {
+        final EnumSet<Member> members = EnumSet.of(Member.CONSTRUCTORS, Member.FIELDS);
+        if (!classInfo.hasNoArgsConstructor()) {
+            // Gson falls back to allocating the instance without calling a constructor
+            members.add(Member.UNSAFE_ALLOCATION);
+        }
+        return new Registration(members, reason);
+    }
+
+    /**
+     * A concrete class holding instance fields, without superclass, whose instance methods only set its fields.
+     */
+    private static boolean isDataClass(ClassInfo classInfo) {
+        if (classInfo.isInterface() || classInfo.isEnum() || classInfo.isAnnotation() || classInfo.isAbstract()
+                || classInfo.isRecord() || !DotName.OBJECT_NAME.equals(classInfo.superName())) {
+            return false;
+        }
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (!interfaceName.toString().startsWith(OPTIONS_PACKAGE)) {
+                return false;
+            }
+        }
+        if (classInfo.fields().stream().allMatch(field -> Modifier.isStatic(field.flags()))) {
+            return false;
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            if (method.isStaticInitializer() || method.isConstructor() || Modifier.isStatic(method.flags())
+                    || method.isSynthetic()) {
+                continue;
+            }
+            final boolean setter = method.name().startsWith("set") || method.returnType().name().equals(classInfo.name())
+                    || classInfo.interfaceNames().contains(method.returnType().name());
+            final boolean objectMethod = method.name().equals("toString") || method.name().equals("equals")
+                    || method.name().equals("hashCode");
+            if (!setter && !objectMethod) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static DotName elementTypeName(Type type) {
+        return switch (type.kind()) {
+            case ARRAY -> elementTypeName(type.asArrayType().elementType());
+            // the element type of a List<Cookie> or a Map<String, Cookie> is its last type argument
+            case PARAMETERIZED_TYPE -> {
+                final List<Type> arguments = type.asParameterizedType().arguments();
+                yield arguments.isEmpty() ? type.name() : elementTypeName(arguments.get(arguments.size() - 1));
+            }
+            default -> type.name();
+        };
+    }
+}
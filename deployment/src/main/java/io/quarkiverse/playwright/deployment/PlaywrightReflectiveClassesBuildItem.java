@@ -0,0 +1,21 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The Playwright classes registered for reflection, with the members registered for each of them and why.
+ */
+public final class PlaywrightReflectiveClassesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, PlaywrightReflectiveClasses.Registration> registrations;
+
+    PlaywrightReflectiveClassesBuildItem(Map<String, PlaywrightReflectiveClasses.Registration> registrations) {
+        this.registrations = registrations;
+    }
+
+    Map<String, PlaywrightReflectiveClasses.Registration> getRegistrations() {
+        return registrations;
+    }
+}
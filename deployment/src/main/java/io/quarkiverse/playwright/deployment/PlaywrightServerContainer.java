@@ -1,24 +1,36 @@
 package io.quarkiverse.playwright.deployment;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.Network;
 import org.testcontainers.containers.output.OutputFrame;
-import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.DockerImageName;
 
+import com.github.dockerjava.api.command.InspectContainerResponse;
 import com.microsoft.playwright.Playwright;
 
+import io.quarkiverse.playwright.WithPlaywright;
+
 /**
  * A Testcontainers implementation for running a Playwright server in a Docker container.
  * <p>
  * This container extends GenericContainer to provide a containerized Playwright server
- * that listens on port 3000 and can be used for browser automation testing. The npx-installed
- * playwright CLI version is pinned to the version of the com.microsoft.playwright:playwright
- * client library on the classpath (read from its jar manifest), since the server and client
- * must run matching Playwright versions regardless of which Docker image is configured.
+ * that listens on port 3000 and can be used for browser automation testing. The playwright CLI
+ * version is pinned to the version of the com.microsoft.playwright:playwright client library on
+ * the classpath (read from its jar manifest), since the server and client must run matching
+ * Playwright versions regardless of which Docker image is configured.
+ * <p>
+ * The container runs, by order of preference:
+ * - the configured server image as is, whose default command starts the Playwright server
+ * - an image derived from the configured image with the CLI installed, built once and then
+ * reused (see {@link PlaywrightServerImage})
+ * - the configured image, installing the CLI with npx at every start
  * <p>
  * The container supports configuration options including:
  * - Custom Docker image selection
@@ -29,21 +41,43 @@ import com.microsoft.playwright.Playwright;
  * to the configured logger, with stdout logged at INFO level and stderr at ERROR level.
  * Debug output from Playwright's internal API (pw:api) is also enabled in verbose mode.
  * <p>
- * The container exposes the Playwright server on port 3000 and uses a listening port
- * wait strategy to ensure the server is ready before proceeding with tests.
+ * The container exposes the Playwright server on port 3000 and is ready once the server
+ * launched the warm-up browsers for a Playwright client (see {@link PlaywrightServerWarmUp}).
  */
 class PlaywrightServerContainer extends GenericContainer<PlaywrightServerContainer> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PlaywrightServerContainer.class);
     public static final int PLAYWRIGHT_SERVER_PORT = 3000;
 
-    record PlaywrightDevServiceConfiguration(String imageName, boolean verbose, boolean sharedNetwork) {
+    /**
+     * The time for the server of a created container to launch its warm-up browsers.
+     */
+    static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    /**
+     * @param serverImage the image with the Playwright server already installed, or {@code null}
+     */
+    record PlaywrightDevServiceConfiguration(String imageName, boolean verbose, boolean sharedNetwork,
+            boolean buildImage, String serverImage, int instances, boolean reuse, Duration idleTimeout,
+            boolean asyncStart, List<WithPlaywright.Browser> warmUpBrowsers, boolean keepWarm) {
     }
 
     private final PlaywrightDevServiceConfiguration config;
+    private final PlaywrightServerWarmUp warmUp;
+
+    /**
+     * The endpoint of the server, known once the container is bound to the port picked by Docker, before the server
+     * started.
+     */
+    private final CompletableFuture<String> bound = new CompletableFuture<>();
 
-    PlaywrightServerContainer(PlaywrightDevServiceConfiguration config) {
-        super(DockerImageName.parse(config.imageName));
+    /**
+     * @param image the image to run, see {@link #serverImage(PlaywrightDevServiceConfiguration)}
+     * @param configHash the hash labelling reusable containers, or {@code null} when the container is not reused
+     * @param instance the number of the instance, from 0
+     */
+    PlaywrightServerContainer(PlaywrightDevServiceConfiguration config, String image, String configHash, int instance) {
+        super(DockerImageName.parse(image));
         this.config = config;
         if (config.verbose) {
             withEnv("DEBUG", "pw:api");
@@ -52,8 +86,48 @@ class PlaywrightServerContainer extends GenericContainer<PlaywrightServerContain
             withNetwork(Network.SHARED);
         }
         withExposedPorts(PLAYWRIGHT_SERVER_PORT);
-        withCommand("/bin/sh", "-c", playwrightServerCommand());
-        waitingFor(Wait.forListeningPort());
+        if (configHash != null) {
+            // outlives the JVM, until idle
+            final String serverCommand = runsServerImage(config) ? PlaywrightServerReuse.imageCommand(image)
+                    : playwrightServerCommand();
+            withCreateContainerCmdModifier(cmd -> {
+                cmd.withEntrypoint("/bin/sh");
+                cmd.getHostConfig().withAutoRemove(true);
+            });
+            withCommand("-c", PlaywrightServerReuse.idleShutdownScript(serverCommand, config.idleTimeout));
+            withLabel(PlaywrightServerReuse.CONFIG_LABEL, configHash);
+            withLabel(PlaywrightServerReuse.INSTANCE_LABEL, String.valueOf(instance));
+            withReuse(true);
+        } else if (!runsServerImage(config)) {
+            withCommand("/bin/sh", "-c", playwrightServerCommand());
+        }
+        this.warmUp = new PlaywrightServerWarmUp(config.warmUpBrowsers, config.keepWarm);
+        waitingFor(warmUp.withStartupTimeout(STARTUP_TIMEOUT));
+    }
+
+    /**
+     * The image to run, building the derived image of the configured image when needed, once for all the instances.
+     */
+    static String serverImage(PlaywrightDevServiceConfiguration config) {
+        if (config.serverImage != null) {
+            return config.serverImage;
+        }
+        if (runsServerImage(config)) {
+            return PlaywrightServerImage.resolve(config.imageName, clientVersion());
+        }
+        return config.imageName;
+    }
+
+    /**
+     * Whether the image to run starts the Playwright server with its default command.
+     */
+    private static boolean runsServerImage(PlaywrightDevServiceConfiguration config) {
+        // without a version to pin, a derived image would never be rebuilt
+        return config.serverImage != null || config.buildImage && clientVersion() != null;
+    }
+
+    private static String clientVersion() {
+        return Playwright.class.getPackage().getImplementationVersion();
     }
 
     /**
@@ -67,7 +141,7 @@ class PlaywrightServerContainer extends GenericContainer<PlaywrightServerContain
      * "Playwright version mismatch" server/client error.
      */
     private static String playwrightServerCommand() {
-        final String clientVersion = Playwright.class.getPackage().getImplementationVersion();
+        final String clientVersion = clientVersion();
         final String npxPackage;
         if (clientVersion != null) {
             npxPackage = "playwright@" + clientVersion;
@@ -81,6 +155,39 @@ class PlaywrightServerContainer extends GenericContainer<PlaywrightServerContain
         return "npx -y " + npxPackage + " run-server --host 0.0.0.0 --port " + PLAYWRIGHT_SERVER_PORT + " --unsafe";
     }
 
+    /**
+     * The endpoint of the server, completed once the container is bound to its port.
+     */
+    CompletableFuture<String> bound() {
+        return bound;
+    }
+
+    /**
+     * The endpoint of the server of the started container.
+     */
+    String endpoint() {
+        return String.format("ws://%s:%d/", getHost(), getMappedPort(PLAYWRIGHT_SERVER_PORT));
+    }
+
+    @Override
+    protected void containerIsStarting(InspectContainerResponse containerInfo) {
+        super.containerIsStarting(containerInfo);
+        bound.complete(endpoint());
+    }
+
+    /**
+     * Closes the browsers kept warm, if any.
+     */
+    void closeWarmUp() {
+        warmUp.close();
+    }
+
+    @Override
+    public void stop() {
+        closeWarmUp();
+        super.stop();
+    }
+
     @Override
     public void start() {
         super.start();
@@ -0,0 +1,92 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+
+import com.github.dockerjava.api.exception.NotFoundException;
+
+/**
+ * The image of the Playwright server started by Dev Services, derived from the configured image with the Playwright
+ * CLI of the client version installed.
+ * <p>
+ * Installing the CLI with npx at every container start resolves and downloads the package from the npm registry
+ * each time, which takes tens of seconds and fails offline. The derived image is built once and tagged with the client
+ * version and a hash of its Dockerfile, then kept and reused by the next starts, as long as the configured image and
+ * the client version do not change.
+ * </p>
+ */
+final class PlaywrightServerImage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlaywrightServerImage.class);
+
+    static final String REPOSITORY = "quarkus-playwright-server";
+    static final String INSTALL_DIRECTORY = "/opt/playwright";
+
+    private PlaywrightServerImage() {
+    }
+
+    /**
+     * Builds the derived image unless it already exists.
+     *
+     * @param baseImage the configured image, which provides Node.js and the browsers
+     * @param version the version of the Playwright client
+     * @return the name of the derived image
+     */
+    static String resolve(String baseImage, String version) {
+        final String dockerfile = dockerfile(baseImage, version);
+        final String name = name(version, dockerfile);
+        if (exists(name)) {
+            LOGGER.debug("Reusing Playwright server image {}", name);
+            return name;
+        }
+        LOGGER.info("Building Playwright server image {} from {}, once for Playwright {}", name, baseImage, version);
+        // kept after the JVM exits, to be reused
+        return new ImageFromDockerfile(name, false)
+                .withFileFromString("Dockerfile", dockerfile)
+                .get();
+    }
+
+    /**
+     * The Dockerfile of the derived image. Its default command starts the Playwright server, like the images pre-built
+     * with it and configured with {@code quarkus.playwright.devservices.server-image}.
+     */
+    static String dockerfile(String baseImage, String version) {
+        return "FROM " + baseImage + "\n"
+                + "WORKDIR " + INSTALL_DIRECTORY + "\n"
+                + "RUN npm init -y > /dev/null && npm install --no-audit --no-fund playwright@" + version + "\n"
+                + "LABEL io.quarkiverse.playwright.version=\"" + version + "\"\n"
+                + "EXPOSE " + PlaywrightServerContainer.PLAYWRIGHT_SERVER_PORT + "\n"
+                + "CMD [\"" + INSTALL_DIRECTORY + "/node_modules/.bin/playwright\", \"run-server\", \"--host\", \"0.0.0.0\", "
+                + "\"--port\", \"" + PlaywrightServerContainer.PLAYWRIGHT_SERVER_PORT + "\", \"--unsafe\"]\n";
+    }
+
+    /**
+     * The name of the derived image, {@code quarkus-playwright-server:<version>-<hash>}: a change of the configured image
+     * or of the Dockerfile gives another name, and builds another image.
+     */
+    static String name(String version, String dockerfile) {
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(dockerfile.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        return REPOSITORY + ":" + version + "-" + HexFormat.of().formatHex(digest, 0, 6);
+    }
+
+    private static boolean exists(String name) {
+        try {
+            DockerClientFactory.instance().client().inspectImageCmd(name).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+}
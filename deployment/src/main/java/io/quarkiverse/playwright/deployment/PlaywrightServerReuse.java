@@ -0,0 +1,203 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectImageResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.ContainerConfig;
+import com.github.dockerjava.api.model.ContainerPort;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * Reuses the Playwright server containers of Dev Services across JVMs, when {@code quarkus.playwright.devservices.reuse}
+ * is enabled.
+ * <p>
+ * The containers are labelled with a hash of the Dev Services configuration and their instance number. A JVM finding
+ * a running container with its labels, and whose Playwright server answers, connects to it instead of starting one. A
+ * container started by another JVM moments ago is given the startup timeout to answer, and is only removed
+ * afterwards. The containers are not stopped when the JVM exits, instead they stop, and are removed, once no client has
+ * been connected for the idle timeout: their command runs the Playwright server next to a shell loop watching the
+ * connections to its port.
+ * </p>
+ */
+final class PlaywrightServerReuse {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlaywrightServerReuse.class);
+
+    static final String CONFIG_LABEL = "io.quarkiverse.playwright.config";
+    static final String INSTANCE_LABEL = "io.quarkiverse.playwright.instance";
+
+    private static final Duration IDLE_CHECK_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(1);
+    private static final long HEALTH_CHECK_INTERVAL_MILLIS = 500;
+
+    private PlaywrightServerReuse() {
+    }
+
+    /**
+     * The hash labelling the containers of a configuration and of a Playwright client version, so that a change of
+     * either starts new containers.
+     */
+    static String configHash(PlaywrightServerContainer.PlaywrightDevServiceConfiguration config) {
+        final String key = String.join("\n", String.valueOf(Playwright.class.getPackage().getImplementationVersion()),
+                config.imageName(), String.valueOf(config.serverImage()), String.valueOf(config.buildImage()),
+                String.valueOf(config.verbose()), String.valueOf(config.idleTimeout()));
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Finds the running container of an instance, removing it when its server no longer answers.
+     *
+     * @return the websocket endpoint of the container
+     */
+    static Optional<String> locate(String configHash, int instance) {
+        final DockerClient client = DockerClientFactory.instance().client();
+        final List<Container> containers = client.listContainersCmd()
+                .withLabelFilter(Map.of(CONFIG_LABEL, configHash, INSTANCE_LABEL, String.valueOf(instance)))
+                .withStatusFilter(List.of("running"))
+                .exec();
+        if (containers.isEmpty()) {
+            return Optional.empty();
+        }
+        final String host = DockerClientFactory.instance().dockerHostIpAddress();
+        final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(HEALTH_CHECK_TIMEOUT).build();
+        for (Container container : containers) {
+            final Optional<Integer> port = Arrays.stream(container.getPorts())
+                    .filter(mapping -> mapping.getPrivatePort() != null
+                            && mapping.getPrivatePort() == PlaywrightServerContainer.PLAYWRIGHT_SERVER_PORT)
+                    .map(ContainerPort::getPublicPort)
+                    .filter(publicPort -> publicPort != null)
+                    .findFirst();
+            // another JVM may still be starting it
+            final Instant started = Instant.ofEpochSecond(container.getCreated())
+                    .plus(PlaywrightServerContainer.STARTUP_TIMEOUT);
+            if (port.isPresent() && serves(httpClient, host, port.get(), started)) {
+                LOGGER.debug("Reusing Playwright server container {}", container.getId());
+                return Optional.of(String.format("ws://%s:%d/", host, port.get()));
+            }
+            if (Instant.now().isBefore(started)) {
+                LOGGER.info("Not reusing Playwright server container {}, which is still starting", container.getId());
+                continue;
+            }
+            LOGGER.info("Removing unhealthy Playwright server container {}", container.getId());
+            client.removeContainerCmd(container.getId()).withForce(true).exec();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether the server answers, waiting for it until the deadline.
+     */
+    private static boolean serves(HttpClient httpClient, String host, int port, Instant deadline) {
+        while (!answers(httpClient, host, port)) {
+            if (!Instant.now().isBefore(deadline)) {
+                return false;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(HEALTH_CHECK_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether a Playwright server answers on the port. Accepting a connection proves nothing, since the Docker proxy of
+     * a published port accepts them even when nothing listens in the container. A plain HTTP request is answered with
+     * an error by the server, as it is not a websocket upgrade, and any response proves the server is up.
+     */
+    static boolean answers(HttpClient httpClient, String host, int port) {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(String.format("http://%s:%d/", host, port)))
+                .timeout(HEALTH_CHECK_TIMEOUT)
+                .GET()
+                .build();
+        try {
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return true;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * The command starting an image, its entrypoint followed by its command, for images starting the Playwright server
+     * on their own.
+     */
+    static String imageCommand(String image) {
+        final InspectImageResponse inspection = DockerClientFactory.instance().client().inspectImageCmd(image).exec();
+        final ContainerConfig config = inspection.getConfig();
+        return Stream.concat(stream(config == null ? null : config.getEntrypoint()),
+                stream(config == null ? null : config.getCmd()))
+                .map(PlaywrightServerReuse::quote)
+                .collect(Collectors.joining(" "));
+    }
+
+    private static Stream<String> stream(String[] values) {
+        return values == null ? Stream.empty() : Arrays.stream(values);
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+
+    /**
+     * The shell script running the server until no client has been connected for the idle timeout. A connection is
+     * an established TCP connection to the server port, read from {@code /proc/net/tcp}.
+     *
+     * @param serverCommand the shell command starting the server
+     */
+    static String idleShutdownScript(String serverCommand, Duration idleTimeout) {
+        final long interval = IDLE_CHECK_INTERVAL.toSeconds();
+        final String port = String.format("%04X", PlaywrightServerContainer.PLAYWRIGHT_SERVER_PORT);
+        return serverCommand + " &\n"
+                + "server=$!\n"
+                + "idle=0\n"
+                + "while kill -0 $server 2>/dev/null; do\n"
+                + "  sleep " + interval + "\n"
+                + "  if cat /proc/net/tcp /proc/net/tcp6 2>/dev/null"
+                + " | awk '$2 ~ /:" + port + "$/ && $4 == \"01\" { found = 1 } END { exit !found }'; then\n"
+                + "    idle=0\n"
+                + "  else\n"
+                + "    idle=$((idle + " + interval + "))\n"
+                + "  fi\n"
+                + "  if [ $idle -ge " + idleTimeout.toSeconds() + " ]; then\n"
+                + "    echo \"Stopping the Playwright server, idle for $idle seconds\"\n"
+                + "    kill $server\n"
+                + "    break\n"
+                + "  fi\n"
+                + "done\n"
+                + "wait $server\n";
+    }
+}
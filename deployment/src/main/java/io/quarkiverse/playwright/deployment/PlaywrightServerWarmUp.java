@@ -0,0 +1,128 @@
+package io.quarkiverse.playwright.deployment;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.impl.PlaywrightImpl;
+import com.microsoft.playwright.impl.driver.Driver;
+
+import io.quarkiverse.playwright.CachedDriver;
+import io.quarkiverse.playwright.WithPlaywright;
+
+/**
+ * Waits for the Playwright server of a container to launch browsers, not only to listen.
+ * <p>
+ * The port of the container is open before the server can serve a client, and the first browser launched in the
+ * container pays for loading the browser from disk. Once the port listens, this strategy connects to the server with a
+ * Playwright client, once per warm-up browser type, which makes the server launch that browser. The server is ready
+ * once every connection succeeds. The browsers are closed afterwards, unless they are kept warm until the Dev Services
+ * stop, so that the browser of every type stays loaded in the container.
+ * </p>
+ */
+final class PlaywrightServerWarmUp extends AbstractWaitStrategy implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlaywrightServerWarmUp.class);
+    private static final long RETRY_INTERVAL_MILLIS = 500;
+
+    private final List<WithPlaywright.Browser> browsers;
+    private final boolean keepWarm;
+
+    /**
+     * The client of the warm browsers, guarded by {@code this}.
+     */
+    private Playwright playwright;
+
+    PlaywrightServerWarmUp(List<WithPlaywright.Browser> browsers, boolean keepWarm) {
+        this.browsers = browsers.isEmpty() ? List.of(WithPlaywright.Browser.CHROMIUM) : browsers;
+        this.keepWarm = keepWarm;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        Wait.forListeningPort().withStartupTimeout(startupTimeout).waitUntilReady(waitStrategyTarget);
+        final String endpoint = String.format("ws://%s:%d/", waitStrategyTarget.getHost(),
+                waitStrategyTarget.getMappedPort(PlaywrightServerContainer.PLAYWRIGHT_SERVER_PORT));
+        final long deadline = System.nanoTime() + startupTimeout.toNanos();
+
+        final Playwright client;
+        try {
+            // only the driver is needed, the browsers run in the container
+            final Map<String, String> env = Map.of("PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD", "1");
+            final String node = CachedDriver.install(env).createProcessBuilder().command().get(0);
+            // a driver of its own, with the Node.js of the installed driver, leaves the driver of the JVM as configured
+            client = PlaywrightImpl.createImpl(new Playwright.CreateOptions().setEnv(
+                    Map.of("PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD", "1", Driver.PLAYWRIGHT_NODEJS_PATH, node)), true);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not start a Playwright client to warm up the Playwright server at {}, it is only known "
+                    + "to listen", endpoint, e);
+            return;
+        }
+        boolean ready = false;
+        try {
+            for (WithPlaywright.Browser browser : browsers) {
+                connect(client, browser, endpoint, deadline);
+            }
+            ready = true;
+        } finally {
+            if (ready && keepWarm) {
+                synchronized (this) {
+                    playwright = client;
+                }
+            } else {
+                client.close();
+            }
+        }
+        LOGGER.debug("Playwright server at {} launched {}", endpoint, browsers);
+    }
+
+    /**
+     * Connects until the server launches the browser, or the startup timeout.
+     */
+    private static Browser connect(Playwright client, WithPlaywright.Browser browser, String endpoint, long deadline) {
+        final BrowserType browserType = switch (browser) {
+            case FIREFOX -> client.firefox();
+            case WEBKIT -> client.webkit();
+            default -> client.chromium();
+        };
+        while (true) {
+            try {
+                return browserType.connect(endpoint);
+            } catch (PlaywrightException e) {
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new ContainerLaunchException(
+                            "The Playwright server at " + endpoint + " did not launch " + browserType.name(), e);
+                }
+                LOGGER.debug("The Playwright server at {} did not launch {} yet", endpoint, browserType.name(), e);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(RETRY_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while waiting for the Playwright server", e);
+            }
+        }
+    }
+
+    /**
+     * Closes the warm browsers.
+     */
+    @Override
+    public synchronized void close() {
+        if (playwright != null) {
+            playwright.close();
+            playwright = null;
+        }
+    }
+}
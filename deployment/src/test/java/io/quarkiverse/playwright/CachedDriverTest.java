@@ -0,0 +1,47 @@
+package io.quarkiverse.playwright;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks how the driver cache is selected for the Playwright instances of the tests, and deselected once they stop.
+ */
+class CachedDriverTest {
+
+    private static final String OTHER_DRIVER = "com.microsoft.playwright.impl.driver.jar.DriverJar";
+
+    @AfterEach
+    void clearDriver() {
+        System.clearProperty(CachedDriver.DRIVER_IMPL_PROPERTY);
+    }
+
+    @Test
+    void theDriverIsDeselectedOnceEverySelectionIsReleased() {
+        assertTrue(CachedDriver.enabled());
+
+        CachedDriver.select();
+        CachedDriver.select();
+        assertEquals(CachedDriver.class.getName(), System.getProperty(CachedDriver.DRIVER_IMPL_PROPERTY));
+
+        CachedDriver.release();
+        assertEquals(CachedDriver.class.getName(), System.getProperty(CachedDriver.DRIVER_IMPL_PROPERTY));
+        CachedDriver.release();
+        assertNull(System.getProperty(CachedDriver.DRIVER_IMPL_PROPERTY));
+    }
+
+    @Test
+    void anotherConfiguredDriverIsKept() {
+        System.setProperty(CachedDriver.DRIVER_IMPL_PROPERTY, OTHER_DRIVER);
+        assertFalse(CachedDriver.enabled());
+
+        CachedDriver.select();
+        CachedDriver.release();
+
+        assertEquals(OTHER_DRIVER, System.getProperty(CachedDriver.DRIVER_IMPL_PROPERTY));
+    }
+}
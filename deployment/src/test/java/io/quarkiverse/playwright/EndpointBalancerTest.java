@@ -0,0 +1,241 @@
+package io.quarkiverse.playwright;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.PlaywrightException;
+import com.sun.net.httpserver.HttpServer;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+
+/**
+ * Checks how the browser connections are spread across the endpoints of several Playwright servers.
+ */
+class EndpointBalancerTest {
+
+    private static final String FIRST = "ws://127.0.0.1:3001/";
+    private static final String SECOND = "ws://127.0.0.1:3002/";
+    private static final String THIRD = "ws://127.0.0.1:3003/";
+
+    @AfterEach
+    void shutdown() {
+        // the balancers are shared in the JVM
+        EndpointBalancer.shutdown();
+    }
+
+    @Test
+    void endpointsWithAsManyConnectionsTakeTurns() {
+        final EndpointBalancer balancer = EndpointBalancer.of(List.of(FIRST, SECOND, THIRD), EndpointBalancer.DEFAULTS);
+
+        final List<String> selected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            final String endpoint = balancer.select();
+            selected.add(endpoint);
+            balancer.release(endpoint);
+        }
+
+        assertEquals(List.of(FIRST, SECOND, THIRD, FIRST, SECOND, THIRD), selected);
+    }
+
+    @Test
+    void theEndpointWithTheFewestConnectionsIsSelected() {
+        final EndpointBalancer balancer = EndpointBalancer.of(List.of(FIRST, SECOND), EndpointBalancer.DEFAULTS);
+        assertEquals(FIRST, balancer.select());
+        assertEquals(SECOND, balancer.select());
+        assertEquals(FIRST, balancer.select());
+        // the turn of the first endpoint, which has more connections
+        assertEquals(SECOND, balancer.select());
+
+        balancer.release(FIRST);
+        balancer.release(FIRST);
+        assertEquals(FIRST, balancer.select());
+        // the turn of the second endpoint, which has more connections
+        assertEquals(FIRST, balancer.select());
+    }
+
+    @Test
+    void endpointsGetConnectionsInProportionToTheirWeight() {
+        final EndpointBalancer balancer = EndpointBalancer.of(List.of(FIRST, SECOND), settings(List.of(1, 2)));
+
+        final List<String> selected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            selected.add(balancer.select());
+        }
+
+        assertEquals(2, selected.stream().filter(FIRST::equals).count());
+        assertEquals(4, selected.stream().filter(SECOND::equals).count());
+    }
+
+    @Test
+    void releasingNeverGoesBelowNoConnection() {
+        final EndpointBalancer balancer = EndpointBalancer.of(List.of(FIRST, SECOND), EndpointBalancer.DEFAULTS);
+        assertEquals(FIRST, balancer.select());
+        balancer.release(FIRST);
+        balancer.release(FIRST);
+        balancer.release(THIRD);
+
+        assertEquals(SECOND, balancer.select());
+        assertEquals(FIRST, balancer.select());
+    }
+
+    @Test
+    void weightsMustMatchTheEndpoints() {
+        assertThrows(ConfigurationException.class,
+                () -> EndpointBalancer.of(List.of(FIRST, SECOND), settings(List.of(1))));
+        assertThrows(ConfigurationException.class,
+                () -> EndpointBalancer.of(List.of(FIRST, SECOND), settings(List.of(1, 0))));
+    }
+
+    @Test
+    void endpointsAreProbedOverHttp() {
+        assertEquals(URI.create("http://render:3000/"), EndpointBalancer.httpUri("ws://render:3000/"));
+        assertEquals(URI.create("https://render/playwright?browser=chromium"),
+                EndpointBalancer.httpUri("wss://render/playwright?browser=chromium"));
+        assertEquals(URI.create("http://render:3000/"), EndpointBalancer.httpUri("http://render:3000/"));
+    }
+
+    @Test
+    void endpointsWithoutSchemeOrHostAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> EndpointBalancer.httpUri("render:3000"));
+        assertThrows(IllegalArgumentException.class, () -> EndpointBalancer.httpUri("/playwright"));
+
+        final ConfigurationException e = assertThrows(ConfigurationException.class,
+                () -> EndpointBalancer.of(List.of(FIRST, "render:3000"), EndpointBalancer.DEFAULTS));
+        assertEquals(Set.of("quarkus.playwright.endpoints"), e.getConfigKeys());
+    }
+
+    @Test
+    void connectionsWithoutTimeoutAreBounded() {
+        final EndpointBalancer balancer = EndpointBalancer.of(List.of(FIRST), EndpointBalancer.DEFAULTS);
+        final List<Double> timeouts = new ArrayList<>();
+        final BrowserType browserType = browserType((endpoint, options) -> {
+            timeouts.add(options.timeout);
+            return browser();
+        });
+
+        balancer.connect(browserType, new BrowserType.ConnectOptions());
+        balancer.connect(browserType, new BrowserType.ConnectOptions().setTimeout(5000));
+
+        assertEquals(List.of((double) EndpointBalancer.CONNECT_TIMEOUT.toMillis(), 5000.0), timeouts);
+    }
+
+    @Test
+    void failingEndpointsAreEjectedUntilTheyServeAgain() throws Exception {
+        final AtomicInteger firstStatus = new AtomicInteger(503);
+        final HttpServer firstServer = server(firstStatus);
+        final HttpServer secondServer = server(new AtomicInteger(400));
+        try {
+            final String first = "ws://127.0.0.1:" + firstServer.getAddress().getPort() + "/";
+            final String second = "ws://127.0.0.1:" + secondServer.getAddress().getPort() + "/";
+            final EndpointBalancer balancer = EndpointBalancer.of(List.of(first, second),
+                    new EndpointBalancer.Settings(List.of(), Duration.ofMillis(50), 2, Duration.ofMillis(1)));
+            final List<String> attempts = new ArrayList<>();
+            final BrowserType browserType = browserType((endpoint, options) -> {
+                attempts.add(endpoint);
+                if (endpoint.equals(first)) {
+                    throw new PlaywrightException("Connection refused");
+                }
+                return browser();
+            });
+
+            balancer.connect(browserType, new BrowserType.ConnectOptions());
+            assertEquals(List.of(first, second), attempts);
+
+            // the health checks keep the first endpoint ejected while it fails
+            Thread.sleep(200);
+            for (int i = 0; i < 4; i++) {
+                assertEquals(second, balancer.select());
+            }
+
+            firstStatus.set(400);
+            boolean readmitted = false;
+            for (int i = 0; i < 100 && !readmitted; i++) {
+                Thread.sleep(50);
+                final String endpoint = balancer.select();
+                readmitted = endpoint.equals(first);
+                balancer.release(endpoint);
+            }
+            assertTrue(readmitted, "The first endpoint was not readmitted");
+        } finally {
+            firstServer.stop(0);
+            secondServer.stop(0);
+        }
+    }
+
+    @Test
+    void shutdownStopsTheHealthChecksAndDropsTheBalancers() throws InterruptedException {
+        final EndpointBalancer balancer = EndpointBalancer.of(List.of(FIRST, SECOND), EndpointBalancer.DEFAULTS);
+        assertSame(balancer, EndpointBalancer.of(List.of(FIRST, SECOND), EndpointBalancer.DEFAULTS));
+
+        EndpointBalancer.shutdown();
+
+        boolean probing = true;
+        for (int i = 0; i < 100 && probing; i++) {
+            probing = Thread.getAllStackTraces().keySet().stream()
+                    .anyMatch(thread -> thread.getName().equals("playwright-endpoint-health") && thread.isAlive());
+            if (probing) {
+                Thread.sleep(50);
+            }
+        }
+        assertFalse(probing, "The health check thread is still running");
+        assertNotSame(balancer, EndpointBalancer.of(List.of(FIRST, SECOND), EndpointBalancer.DEFAULTS));
+    }
+
+    private static EndpointBalancer.Settings settings(List<Integer> weights) {
+        final EndpointBalancer.Settings defaults = EndpointBalancer.DEFAULTS;
+        return new EndpointBalancer.Settings(weights, defaults.healthCheckInterval(), defaults.connectAttempts(),
+                defaults.connectBackoff());
+    }
+
+    /**
+     * A server answering every request with the status, as a Playwright server answers 400 to plain HTTP requests.
+     */
+    private static HttpServer server(AtomicInteger status) throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private static BrowserType browserType(Connector connector) {
+        return (BrowserType) Proxy.newProxyInstance(BrowserType.class.getClassLoader(),
+                new Class<?>[] { BrowserType.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("connect") && args.length == 2) {
+                        return connector.connect((String) args[0], (BrowserType.ConnectOptions) args[1]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Browser browser() {
+        return (Browser) Proxy.newProxyInstance(Browser.class.getClassLoader(), new Class<?>[] { Browser.class },
+                (proxy, method, args) -> null);
+    }
+
+    private interface Connector {
+
+        Browser connect(String endpoint, BrowserType.ConnectOptions options);
+    }
+}
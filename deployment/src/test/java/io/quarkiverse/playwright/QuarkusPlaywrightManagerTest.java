@@ -0,0 +1,50 @@
+package io.quarkiverse.playwright;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks which {@link WithPlaywright} options the test classes run with, the annotation not being inherited.
+ */
+class QuarkusPlaywrightManagerTest {
+
+    @Test
+    void subclassesRunWithTheOptionsOfTheirSuperclass() {
+        assertSame(Annotated.class.getAnnotation(WithPlaywright.class),
+                QuarkusPlaywrightManager.withPlaywright(Subclass.class));
+    }
+
+    @Test
+    void nestedClassesRunWithTheOptionsOfTheirEnclosingClass() {
+        assertSame(Annotated.class.getAnnotation(WithPlaywright.class),
+                QuarkusPlaywrightManager.withPlaywright(Annotated.Nested.class));
+        assertSame(Annotated.class.getAnnotation(WithPlaywright.class),
+                QuarkusPlaywrightManager.withPlaywright(Subclass.Nested.class));
+    }
+
+    @Test
+    void theClosestAnnotationWins() {
+        assertEquals(WithPlaywright.Browser.FIREFOX, QuarkusPlaywrightManager.withPlaywright(Overriding.class).browser());
+        assertNull(QuarkusPlaywrightManager.withPlaywright(QuarkusPlaywrightManagerTest.class));
+    }
+
+    @WithPlaywright
+    static class Annotated {
+
+        class Nested {
+        }
+    }
+
+    static class Subclass extends Annotated {
+
+        class Nested {
+        }
+    }
+
+    @WithPlaywright(browser = WithPlaywright.Browser.FIREFOX)
+    static class Overriding extends Annotated {
+    }
+}
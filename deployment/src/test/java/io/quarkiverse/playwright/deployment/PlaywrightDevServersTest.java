@@ -0,0 +1,43 @@
+package io.quarkiverse.playwright.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.playwright.WithPlaywright;
+import io.quarkus.runtime.configuration.ConfigurationException;
+
+/**
+ * Checks the Dev Services configurations rejected before any container is started.
+ */
+class PlaywrightDevServersTest {
+
+    @Test
+    void atLeastOneInstanceIsStarted() {
+        final ConfigurationException e = assertThrows(ConfigurationException.class,
+                () -> PlaywrightDevServers.start(configuration(0, false, false)));
+
+        assertEquals(Set.of("quarkus.playwright.devservices.instances"), e.getConfigKeys());
+    }
+
+    @Test
+    void reusedContainersAreNotKeptWarm() {
+        final ConfigurationException e = assertThrows(ConfigurationException.class,
+                () -> PlaywrightDevServers.start(configuration(1, true, true)));
+
+        assertEquals(Set.of("quarkus.playwright.devservices.keep-warm", "quarkus.playwright.devservices.reuse"),
+                e.getConfigKeys());
+    }
+
+    private static PlaywrightServerContainer.PlaywrightDevServiceConfiguration configuration(int instances,
+            boolean reuse, boolean keepWarm) {
+        return new PlaywrightServerContainer.PlaywrightDevServiceConfiguration("mcr.microsoft.com/playwright:v1.60.0-noble",
+                false, false, true, null, instances, reuse, Duration.ofMinutes(30), true,
+                List.of(WithPlaywright.Browser.CHROMIUM), keepWarm);
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkiverse.playwright.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.playwright.CachedDriver;
+
+/**
+ * Checks the Playwright server process that Dev Services start on the host without a container runtime, with the
+ * driver bundled with the extension.
+ */
+class PlaywrightLocalServerTest {
+
+    @Test
+    void serverListensOnThePortItPicked() throws InterruptedException {
+        final PlaywrightLocalServer server = PlaywrightLocalServer.start(false);
+        try {
+            final URI endpoint = URI.create(server.endpoint());
+            assertEquals("ws", endpoint.getScheme());
+            assertEquals("127.0.0.1", endpoint.getHost());
+            assertTrue(endpoint.getPort() > 0, server.endpoint());
+            assertTrue(PlaywrightServerReuse.answers(HttpClient.newHttpClient(), "127.0.0.1", endpoint.getPort()));
+            assertTrue(serverRunning());
+        } finally {
+            server.close();
+        }
+        assertTrue(serverExited(), "The Playwright server is still running");
+    }
+
+    @Test
+    void serverNotListeningInTimeIsKilled() throws InterruptedException {
+        final ProcessBuilder builder = driver("run-server", "--host", "127.0.0.1", "--port", "0");
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> PlaywrightLocalServer.start(builder, Duration.ofMillis(1), false));
+
+        assertTrue(e.getMessage().startsWith("The Playwright server did not start within"), e.getMessage());
+        assertTrue(serverExited(), "The Playwright server is still running");
+    }
+
+    @Test
+    void serverStoppingBeforeListeningFails() {
+        final IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> PlaywrightLocalServer.start(driver("--version"), Duration.ofSeconds(60), false));
+
+        assertEquals("The Playwright server stopped", e.getCause().getMessage());
+    }
+
+    private static ProcessBuilder driver(String... arguments) {
+        final ProcessBuilder builder = CachedDriver.install(Map.of()).createProcessBuilder();
+        builder.command().addAll(List.of(arguments));
+        return builder;
+    }
+
+    /**
+     * Whether a server process started by this JVM is running.
+     */
+    private static boolean serverRunning() {
+        return ProcessHandle.current().descendants()
+                .filter(ProcessHandle::isAlive)
+                .anyMatch(process -> process.info().arguments()
+                        .map(arguments -> List.of(arguments).contains("run-server"))
+                        .orElse(false));
+    }
+
+    /**
+     * Whether the server processes started by this JVM exit within a few seconds.
+     */
+    private static boolean serverExited() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (!serverRunning()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,132 @@
+package io.quarkiverse.playwright.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Page;
+
+import io.quarkiverse.playwright.graal.ProtocolAccessor;
+import io.quarkiverse.playwright.graal.ProtocolTypeAdapterFactory;
+
+/**
+ * Checks that the generated protocol accessors (de)serialize the protocol messages exactly like the reflective adapter
+ * of Gson.
+ */
+class PlaywrightProtocolAccessorsTest {
+
+    private static final String MESSAGE = "com.microsoft.playwright.impl.Message";
+    private static final String JSON = """
+            {"id":3,"guid":"page@1","method":"evaluateExpression","params":{"expression":"1 + 1"},
+             "error":{"error":{"message":"boom","name":"Error","stack":"at <anonymous>"},
+                      "value":{"a":[{"n":1.5},{"s":"x"},{"v":"undefined"}],"o":[{"k":"key","v":{"b":true}}]}},
+             "log":["first","second"],"unknown":{"skipped":[1,2]}}
+            """;
+
+    private static ClassLoader classLoader;
+    private static List<ProtocolAccessor> accessors;
+
+    @BeforeAll
+    static void generateAccessors() throws Exception {
+        final Indexer indexer = new Indexer();
+        final Path jar = Path.of(Page.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            for (JarEntry entry : (Iterable<JarEntry>) jarFile.stream()::iterator) {
+                if (entry.getName().endsWith(".class")) {
+                    try (InputStream in = jarFile.getInputStream(entry)) {
+                        indexer.index(in);
+                    }
+                }
+            }
+        }
+        final Index index = indexer.complete();
+        final Map<String, byte[]> generated = new HashMap<>();
+        final List<String> names = PlaywrightProtocolAccessors.generate(index,
+                (name, data) -> generated.put(name.replace('/', '.'), data));
+        classLoader = new ProtocolClassLoader(generated);
+        accessors = new ArrayList<>();
+        for (String name : names) {
+            accessors.add((ProtocolAccessor) classLoader.loadClass(name).getConstructor().newInstance());
+        }
+    }
+
+    @Test
+    void everyProtocolClassHasAnAccessor() {
+        assertEquals(PlaywrightProtocolAccessors.PROTOCOL_CLASSES,
+                accessors.stream().map(accessor -> accessor.type().getName()).toList());
+    }
+
+    @Test
+    void messagesAreReadAndWrittenLikeGson() throws ClassNotFoundException {
+        final Gson generated = new GsonBuilder().registerTypeAdapterFactory(new ProtocolTypeAdapterFactory(accessors))
+                .create();
+        final Gson reflective = new Gson();
+        final Class<?> messageClass = classLoader.loadClass(MESSAGE);
+
+        final Object message = generated.fromJson(JSON, messageClass);
+        final ProtocolAccessor accessor = accessors.get(0);
+        final List<String> fields = List.of(accessor.fieldNames());
+        assertEquals(3, accessor.get(message, fields.indexOf("id")));
+        assertEquals("page@1", accessor.get(message, fields.indexOf("guid")));
+
+        final String expected = reflective.toJson(reflective.fromJson(JSON, messageClass));
+        assertEquals(JsonParser.parseString(expected), JsonParser.parseString(generated.toJson(message)));
+        assertTrue(expected.contains("\"n\":1.5"), expected);
+    }
+
+    /**
+     * Loads the Playwright protocol classes itself, the generated accessors can only reach their package-private fields
+     * from the same class loader.
+     */
+    private static final class ProtocolClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> generated;
+
+        ProtocolClassLoader(Map<String, byte[]> generated) {
+            super(PlaywrightProtocolAccessorsTest.class.getClassLoader());
+            this.generated = generated;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    byte[] bytes = generated.get(name);
+                    if (bytes == null && name.startsWith("com.microsoft.playwright.impl.")) {
+                        try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                            bytes = in == null ? null : in.readAllBytes();
+                        } catch (IOException e) {
+                            throw new ClassNotFoundException(name, e);
+                        }
+                    }
+                    if (bytes == null) {
+                        return super.loadClass(name, resolve);
+                    }
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+}
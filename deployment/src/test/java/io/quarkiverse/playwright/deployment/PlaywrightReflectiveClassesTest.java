@@ -0,0 +1,98 @@
+package io.quarkiverse.playwright.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.playwright.Page;
+
+import io.quarkiverse.playwright.deployment.PlaywrightReflectiveClasses.Member;
+import io.quarkiverse.playwright.deployment.PlaywrightReflectiveClasses.Registration;
+
+/**
+ * Guards the reflection registrations derived from the Playwright classes, so that a Playwright upgrade changing the
+ * shape of its data classes does not silently drop a class Gson needs.
+ */
+class PlaywrightReflectiveClassesTest {
+
+    private static Map<String, Registration> registrations;
+
+    @BeforeAll
+    static void indexPlaywright() throws IOException, URISyntaxException {
+        final Indexer indexer = new Indexer();
+        final Path jar = Path.of(Page.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            for (JarEntry entry : (Iterable<JarEntry>) jarFile.stream()::iterator) {
+                if (entry.getName().endsWith(".class")) {
+                    try (InputStream in = jarFile.getInputStream(entry)) {
+                        indexer.index(in);
+                    }
+                }
+            }
+        }
+        final Index index = indexer.complete();
+        registrations = PlaywrightReflectiveClasses.collect(index);
+    }
+
+    @Test
+    void protocolMessagesAreNotRegistered() {
+        // (de)serialized through their generated accessors
+        for (String protocolClass : PlaywrightProtocolAccessors.PROTOCOL_CLASSES) {
+            assertFalse(registrations.containsKey(protocolClass), protocolClass);
+        }
+    }
+
+    @Test
+    void optionsAreRegistered() {
+        assertMembers(Page.ScreenshotOptions.class.getName(), Member.CONSTRUCTORS, Member.FIELDS);
+        assertMembers("com.microsoft.playwright.Browser$NewContextOptions", Member.CONSTRUCTORS, Member.FIELDS);
+        assertMembers("com.microsoft.playwright.assertions.LocatorAssertions$HasTextOptions", Member.CONSTRUCTORS,
+                Member.FIELDS);
+        assertMembers("com.microsoft.playwright.impl.RequestOptionsImpl", Member.CONSTRUCTORS, Member.FIELDS);
+    }
+
+    @Test
+    void fieldTypesAreRegistered() {
+        assertMembers("com.microsoft.playwright.options.Cookie", Member.CONSTRUCTORS, Member.FIELDS,
+                Member.UNSAFE_ALLOCATION);
+        assertMembers("com.microsoft.playwright.options.ViewportSize", Member.CONSTRUCTORS, Member.FIELDS,
+                Member.UNSAFE_ALLOCATION);
+        assertMembers("com.microsoft.playwright.options.SameSiteAttribute", Member.FIELDS);
+        assertTrue(registrations.get("com.microsoft.playwright.options.SameSiteAttribute").reason()
+                .contains("Cookie.sameSite"));
+    }
+
+    @Test
+    void channelOwnersAreNotRegistered() {
+        assertFalse(registrations.containsKey("com.microsoft.playwright.impl.PageImpl"));
+        assertFalse(registrations.containsKey("com.microsoft.playwright.impl.PlaywrightImpl"));
+        assertFalse(registrations.containsKey("com.microsoft.playwright.impl.Connection"));
+    }
+
+    @Test
+    void driversAreRegistered() {
+        assertMembers("com.microsoft.playwright.impl.driver.jar.DriverJar", Member.CONSTRUCTORS);
+        assertMembers("io.quarkiverse.playwright.CachedDriver", Member.CONSTRUCTORS);
+    }
+
+    private static void assertMembers(String className, Member first, Member... rest) {
+        final Registration registration = registrations.get(className);
+        assertNotNull(registration, className + " is not registered for reflection");
+        assertEquals(EnumSet.of(first, rest), registration.members(), className);
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkiverse.playwright.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the derived Dev Services image is only rebuilt when its base image or Playwright version change.
+ */
+class PlaywrightServerImageTest {
+
+    private static final String BASE_IMAGE = PlaywrightBuildTimeConfig.PlaywrightDevServicesConfig.DEFAULT_IMAGE;
+
+    @Test
+    void nameIsStableForTheSameImageAndVersion() {
+        final String name = name(BASE_IMAGE, "1.61.0");
+
+        assertEquals(name, name(BASE_IMAGE, "1.61.0"));
+        assertTrue(name.matches("quarkus-playwright-server:1\\.61\\.0-[0-9a-f]{12}"), name);
+    }
+
+    @Test
+    void nameChangesWithTheImageOrVersion() {
+        final String name = name(BASE_IMAGE, "1.61.0");
+
+        assertNotEquals(name, name("mcr.microsoft.com/playwright:v1.61.0-jammy", "1.61.0"));
+        assertNotEquals(name, name(BASE_IMAGE, "1.60.0"));
+    }
+
+    @Test
+    void dockerfileInstallsAndStartsTheClientVersion() {
+        final String dockerfile = PlaywrightServerImage.dockerfile(BASE_IMAGE, "1.61.0");
+
+        assertTrue(dockerfile.startsWith("FROM " + BASE_IMAGE + "\n"), dockerfile);
+        assertTrue(dockerfile.contains("npm install --no-audit --no-fund playwright@1.61.0"), dockerfile);
+        assertTrue(dockerfile.contains("\"run-server\", \"--host\", \"0.0.0.0\", \"--port\", \"3000\""), dockerfile);
+    }
+
+    private static String name(String baseImage, String version) {
+        return PlaywrightServerImage.name(version, PlaywrightServerImage.dockerfile(baseImage, version));
+    }
+}
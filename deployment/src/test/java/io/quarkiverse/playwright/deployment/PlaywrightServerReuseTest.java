@@ -0,0 +1,74 @@
+package io.quarkiverse.playwright.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.quarkiverse.playwright.WithPlaywright;
+
+/**
+ * Checks the labels, the health check and the idle shutdown of the Playwright server containers reused across JVMs.
+ */
+class PlaywrightServerReuseTest {
+
+    @Test
+    void configHashChangesWithTheServerButNotTheInstances() {
+        final String hash = PlaywrightServerReuse.configHash(configuration("image:1", 1));
+
+        assertEquals(hash, PlaywrightServerReuse.configHash(configuration("image:1", 3)));
+        assertNotEquals(hash, PlaywrightServerReuse.configHash(configuration("image:2", 1)));
+    }
+
+    @Test
+    void idleShutdownScriptWatchesTheServerPort() {
+        final String script = PlaywrightServerReuse.idleShutdownScript("'run-server'", Duration.ofMinutes(5));
+
+        assertTrue(script.startsWith("'run-server' &\n"), script);
+        assertTrue(script.contains("/:0BB8$/"), script);
+        assertTrue(script.contains("[ $idle -ge 300 ]"), script);
+    }
+
+    @Test
+    void serversAnswerPlainHttpRequests() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            // as a Playwright server answers a request that is not a websocket upgrade
+            exchange.sendResponseHeaders(400, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            assertTrue(PlaywrightServerReuse.answers(HttpClient.newHttpClient(), "127.0.0.1",
+                    server.getAddress().getPort()));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void acceptingConnectionsIsNotAnswering() throws IOException {
+        // as the Docker proxy of a published port, when nothing listens in the container
+        try (ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            assertFalse(PlaywrightServerReuse.answers(HttpClient.newHttpClient(), "127.0.0.1", socket.getLocalPort()));
+        }
+    }
+
+    private static PlaywrightServerContainer.PlaywrightDevServiceConfiguration configuration(String imageName,
+            int instances) {
+        return new PlaywrightServerContainer.PlaywrightDevServiceConfiguration(imageName, false, false, true, null,
+                instances, true, Duration.ofMinutes(30), true, List.of(WithPlaywright.Browser.CHROMIUM), false);
+    }
+}
@@ -0,0 +1,148 @@
+package io.quarkiverse.playwright.graal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.jboss.logging.MDC;
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Checks the buffering, the formatting and the structured logging entries of the Playwright debug logs of native
+ * executables.
+ */
+class PlaywrightLogPipelineTest {
+
+    private final Logger logger = Logger.getLogger("io.quarkiverse.playwright.driver");
+    private final RecordingHandler handler = new RecordingHandler();
+
+    @BeforeEach
+    void addHandler() {
+        logger.addHandler(handler);
+    }
+
+    @AfterEach
+    void removeHandler() {
+        logger.removeHandler(handler);
+    }
+
+    @Test
+    void recordsAreDroppedAndCountedWhenTheBufferIsFull() {
+        final PlaywrightLogPipeline pipeline = new PlaywrightLogPipeline(2);
+        assertTrue(pipeline.offer(line("first")));
+        assertTrue(pipeline.offer(line("second")));
+        assertFalse(pipeline.offer(line("third")));
+        assertFalse(pipeline.offer(line("fourth")));
+
+        pipeline.new Drainer().drain();
+
+        assertEquals(3, handler.records.size());
+        assertEquals("2 Playwright log record(s) dropped, the log buffer is full", handler.records.get(0).getMessage());
+        assertTrue(handler.records.get(1).getMessage().endsWith(" pw:api first"));
+        assertTrue(handler.records.get(2).getMessage().endsWith(" pw:api second"));
+    }
+
+    @Test
+    void linesHaveThePlaywrightTimestampInUtc() {
+        final PlaywrightLogPipeline pipeline = new PlaywrightLogPipeline(1);
+        final long timestamp = 1_700_000_000_042L;
+        pipeline.offer(new PlaywrightLogPipeline.LogRecord(timestamp, System.nanoTime(), PlaywrightLogPipeline.INSTALL,
+                "downloading", null, null, false));
+
+        pipeline.new Drainer().drain();
+
+        assertEquals("2023-11-14T22:13:20.042Z pw:install downloading", handler.records.get(0).getMessage());
+    }
+
+    @Test
+    void protocolMessagesHaveStructuredLoggingEntries() {
+        final PlaywrightLogPipeline pipeline = new PlaywrightLogPipeline(4);
+        final Object transport = new Object();
+        final long sent = System.nanoTime();
+        final JsonObject call = new JsonObject();
+        call.addProperty("id", 7);
+        call.addProperty("guid", "frame@1");
+        call.addProperty("method", "goto");
+        pipeline.offer(new PlaywrightLogPipeline.LogRecord(System.currentTimeMillis(), sent,
+                PlaywrightLogPipeline.PROTOCOL, null, transport, call, true));
+        final JsonObject response = new JsonObject();
+        response.addProperty("id", 7);
+        pipeline.offer(new PlaywrightLogPipeline.LogRecord(System.currentTimeMillis(),
+                sent + TimeUnit.MILLISECONDS.toNanos(25), PlaywrightLogPipeline.PROTOCOL, null, transport, response,
+                false));
+
+        pipeline.new Drainer().drain();
+
+        final ExtLogRecord send = handler.records.get(0);
+        assertTrue(send.getMessage().contains(" pw:protocol SEND ► {\"id\":7,"));
+        assertEquals("pw:protocol", send.getMdc("playwright.category"));
+        assertEquals("goto", send.getMdc("playwright.method"));
+        assertNull(send.getMdc("playwright.duration"));
+        final ExtLogRecord received = handler.records.get(1);
+        assertTrue(received.getMessage().contains(" pw:protocol ◀ RECV {\"id\":7}"));
+        assertEquals("25ms", received.getMdc("playwright.duration"));
+        // the entries do not leak into the next records of the thread
+        assertNull(MDC.get("playwright.category"));
+        assertNull(MDC.get("playwright.duration"));
+    }
+
+    @Test
+    void theDrainerThreadLogsTheRecords() throws InterruptedException {
+        final PlaywrightLogPipeline pipeline = new PlaywrightLogPipeline(1);
+        pipeline.enqueue(line("started"));
+
+        final ExtLogRecord record = handler.await();
+        assertNotNull(record, "The drainer thread did not log the record");
+        assertTrue(record.getMessage().endsWith(" pw:api started"));
+        assertEquals("playwright-log", handler.threads.get(0));
+    }
+
+    private static PlaywrightLogPipeline.LogRecord line(String message) {
+        return new PlaywrightLogPipeline.LogRecord(System.currentTimeMillis(), System.nanoTime(),
+                PlaywrightLogPipeline.API, message, null, null, false);
+    }
+
+    private static final class RecordingHandler extends Handler {
+
+        private final List<ExtLogRecord> records = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(LogRecord record) {
+            final ExtLogRecord extRecord = (ExtLogRecord) record;
+            // the MDC entries of the thread are only read when the record is published
+            extRecord.copyAll();
+            records.add(extRecord);
+            threads.add(Thread.currentThread().getName());
+        }
+
+        ExtLogRecord await() throws InterruptedException {
+            for (int i = 0; i < 100 && records.isEmpty(); i++) {
+                Thread.sleep(50);
+            }
+            return records.isEmpty() ? null : records.get(0);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkiverse.playwright.test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.playwright.CachedDriver;
+import io.quarkus.test.ProdBuildResults;
+import io.quarkus.test.ProdModeTestResults;
+import io.quarkus.test.QuarkusProdModeTest;
+
+public class PlaywrightDriverPreExtractionTest {
+
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .setApplicationName("driver-pre-extraction")
+            .setApplicationVersion("0.1-SNAPSHOT");
+
+    @ProdBuildResults
+    ProdModeTestResults prodModeTestResults;
+
+    @Test
+    public void driverIsExtractedNextToTheRunner() throws Exception {
+        final Path directory = prodModeTestResults.getBuildDir().resolve("quarkus-app")
+                .resolve(CachedDriver.PACKAGED_DIR_NAME);
+        try (Stream<Path> drivers = Files.list(directory)) {
+            final Path driver = drivers.filter(Files::isDirectory).findFirst().orElseThrow();
+            Assertions.assertTrue(driver.getFileName().toString().endsWith('-' + CachedDriver.platform()));
+            Assertions.assertTrue(Files.isRegularFile(driver.resolve("package/cli.js")));
+            Assertions.assertTrue(Files.isRegularFile(driver.resolve(".quarkus-playwright-driver.sha256")));
+            if (!CachedDriver.platform().startsWith("win")) {
+                Assertions.assertTrue(Files.isExecutable(driver.resolve("node")));
+                Assertions.assertFalse(Files.isExecutable(driver.resolve("package/LICENSE")));
+            }
+        }
+    }
+}
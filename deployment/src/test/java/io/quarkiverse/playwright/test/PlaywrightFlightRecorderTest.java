@@ -0,0 +1,61 @@
+package io.quarkiverse.playwright.test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.impl.Connection;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class PlaywrightFlightRecorderTest {
+
+    private static final String API_CALL = "io.quarkiverse.playwright.PlaywrightApiCall";
+    private static final String PROTOCOL_MESSAGE = "io.quarkiverse.playwright.PlaywrightProtocolMessage";
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(ReplyTransport.class));
+
+    @Test
+    public void callsAreRecordedWhileARecordingRuns() throws Exception {
+        final Connection connection = ReplyTransport.newConnection(new ReplyTransport());
+        final Path dump = Files.createTempFile("playwright", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(API_CALL);
+            recording.enable(PROTOCOL_MESSAGE);
+            recording.start();
+            final JsonObject params = new JsonObject();
+            params.addProperty("url", "https://quarkus.io");
+            connection.sendMessage("frame@1", "goto", params);
+            recording.stop();
+            recording.dump(dump);
+        } finally {
+            ReplyTransport.close(connection);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.delete(dump);
+
+        final List<RecordedEvent> calls = events.stream()
+                .filter(event -> event.getEventType().getName().equals(API_CALL)).toList();
+        Assertions.assertEquals(1, calls.size());
+        Assertions.assertEquals("Frame", calls.get(0).getString("type"));
+        Assertions.assertEquals("goto", calls.get(0).getString("method"));
+        Assertions.assertEquals("https://quarkus.io", calls.get(0).getString("url"));
+        Assertions.assertNull(calls.get(0).getString("error"));
+
+        final List<RecordedEvent> messages = events.stream()
+                .filter(event -> event.getEventType().getName().equals(PROTOCOL_MESSAGE)).toList();
+        Assertions.assertEquals(List.of("sent", "received"),
+                messages.stream().map(event -> event.getString("direction")).toList());
+        Assertions.assertTrue(messages.get(0).getInt("size") > "https://quarkus.io".length());
+    }
+}
@@ -0,0 +1,138 @@
+package io.quarkiverse.playwright.test;
+
+import java.time.Duration;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.impl.Transport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.playwright.BrowserPool;
+import io.quarkiverse.playwright.ObservedTransport;
+import io.quarkiverse.playwright.WithPlaywright;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PlaywrightMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(ReplyTransport.class, Registry.class))
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.playwright.pool.size", "0")
+            .overrideConfigKey("quarkus.playwright.pool.lease-timeout", "50ms")
+            .overrideConfigKey("quarkus.playwright.pool.warm-up", "false");
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    BrowserPool pool;
+
+    @Test
+    public void openObjectsAreCounted() throws Exception {
+        final ReplyTransport driver = new ReplyTransport();
+        final Transport transport = ObservedTransport.decorate(driver);
+        driver.events.add(created("browser-type@1", "Browser", "browser@1"));
+        driver.events.add(created("browser@1", "BrowserContext", "browser-context@1"));
+        driver.events.add(created("browser-context@1", "Page", "page@1"));
+        driver.events.add(created("browser-context@1", "Page", "page@2"));
+        driver.events.add(created("browser@1", "BrowserContext", "browser-context@2"));
+        driver.events.add(created("browser-context@2", "Page", "page@3"));
+        poll(transport);
+        Assertions.assertEquals(1, gauge("playwright.browsers.open"));
+        Assertions.assertEquals(2, gauge("playwright.contexts.open"));
+        Assertions.assertEquals(3, gauge("playwright.pages.open"));
+
+        // closing a context closes its pages
+        driver.events.add(ReplyTransport.event("browser-context@1", "close", new JsonObject()));
+        driver.events.add(ReplyTransport.event("browser-context@1", "__dispose__", new JsonObject()));
+        poll(transport);
+        Assertions.assertEquals(1, gauge("playwright.browsers.open"));
+        Assertions.assertEquals(1, gauge("playwright.contexts.open"));
+        Assertions.assertEquals(1, gauge("playwright.pages.open"));
+
+        // and closing the connection closes the objects left open
+        transport.close();
+        Assertions.assertEquals(0, gauge("playwright.browsers.open"));
+        Assertions.assertEquals(0, gauge("playwright.contexts.open"));
+        Assertions.assertEquals(0, gauge("playwright.pages.open"));
+    }
+
+    @Test
+    public void operationsAreTimed() throws Exception {
+        final ReplyTransport driver = new ReplyTransport();
+        final Transport transport = ObservedTransport.decorate(driver);
+        final long navigated = count("navigate", "success");
+        final long failed = count("screenshot", "failure");
+
+        transport.send(call(1, "frame@1", "goto"));
+        poll(transport);
+        driver.reply = ReplyTransport.error("Timeout 10ms exceeded");
+        transport.send(call(2, "page@1", "screenshot"));
+        poll(transport);
+        transport.close();
+
+        Assertions.assertEquals(navigated + 1, count("navigate", "success"));
+        Assertions.assertEquals(failed + 1, count("screenshot", "failure"));
+    }
+
+    @Test
+    public void leaseWaitsAreTimed() {
+        Assertions.assertThrows(IllegalStateException.class, () -> pool.lease(WithPlaywright.Browser.FIREFOX));
+
+        Assertions.assertEquals(1, registry.get("playwright.pool.lease.wait")
+                .tag("browser", "firefox").tag("outcome", "timeout").timer().count());
+        Assertions.assertEquals(0, registry.get("playwright.pool.lease.wait")
+                .tag("browser", "firefox").tag("outcome", "success").timer().count());
+    }
+
+    private static void poll(Transport transport) {
+        JsonObject message;
+        do {
+            message = transport.poll(Duration.ZERO);
+        } while (message != null);
+    }
+
+    private static JsonObject created(String parent, String type, String guid) {
+        final JsonObject params = new JsonObject();
+        params.addProperty("type", type);
+        params.addProperty("guid", guid);
+        params.add("initializer", new JsonObject());
+        return ReplyTransport.event(parent, "__create__", params);
+    }
+
+    private static JsonObject call(int id, String guid, String method) {
+        final JsonObject message = new JsonObject();
+        message.addProperty("id", id);
+        message.addProperty("guid", guid);
+        message.addProperty("method", method);
+        message.add("params", new JsonObject());
+        return message;
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private long count(String operation, String outcome) {
+        return registry.get("playwright.operations").tag("operation", operation).tag("outcome", outcome).timer()
+                .count();
+    }
+
+    public static class Registry {
+
+        @Produces
+        @Singleton
+        SimpleMeterRegistry registry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkiverse.playwright.test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.impl.Connection;
+
+import io.quarkiverse.playwright.PlaywrightCall;
+import io.quarkiverse.playwright.PlaywrightObserver;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PlaywrightObserverTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(RecordingObserver.class, ReplyTransport.class));
+
+    @Inject
+    RecordingObserver observer;
+
+    @Test
+    public void callsOfTheConnectionsAreObserved() throws Exception {
+        final ReplyTransport transport = new ReplyTransport();
+        final Connection connection = ReplyTransport.newConnection(transport);
+
+        final JsonObject params = new JsonObject();
+        params.addProperty("url", "https://quarkus.io");
+        connection.sendMessage("frame@1", "goto", params);
+
+        transport.reply = ReplyTransport.error("Timeout 10ms exceeded");
+        Assertions.assertThrows(PlaywrightException.class,
+                () -> connection.sendMessage("page@1", "screenshot", new JsonObject()));
+
+        ReplyTransport.close(connection);
+
+        Assertions.assertEquals(2, observer.calls.size());
+        final PlaywrightCall navigate = observer.calls.get(0);
+        Assertions.assertEquals("frame@1", navigate.guid());
+        Assertions.assertEquals("goto", navigate.method());
+        Assertions.assertEquals("https://quarkus.io", navigate.params().get("url").getAsString());
+        Assertions.assertFalse(navigate.failed());
+        Assertions.assertTrue(navigate.durationNanos() >= 0);
+        final PlaywrightCall screenshot = observer.calls.get(1);
+        Assertions.assertEquals("screenshot", screenshot.method());
+        Assertions.assertEquals("Timeout 10ms exceeded", screenshot.error());
+        Assertions.assertEquals(List.of(navigate.connection()), observer.closed);
+    }
+
+    @Singleton
+    public static class RecordingObserver implements PlaywrightObserver {
+
+        final List<PlaywrightCall> calls = new CopyOnWriteArrayList<>();
+        final List<Long> closed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void callEnded(PlaywrightCall call, Object context) {
+            calls.add(call);
+        }
+
+        @Override
+        public void connectionClosed(long connection) {
+            closed.add(connection);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.quarkiverse.playwright.test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.impl.Connection;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkiverse.playwright.PlaywrightDispatcher;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PlaywrightTracingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(ReplyTransport.class, Exporter.class))
+            .overrideConfigKey("quarkus.playwright.tracing.enabled", "true")
+            .overrideConfigKey("quarkus.otel.bsp.schedule.delay", "PT0.01S")
+            .overrideConfigKey("quarkus.playwright.endpoint", "ws://127.0.0.1:1/")
+            .overrideConfigKey("quarkus.playwright.balancer.connect-attempts", "1")
+            .overrideConfigKey("quarkus.playwright.dispatcher.threads", "1")
+            .overrideConfigKey("quarkus.playwright.pool.warm-up", "false");
+
+    @Inject
+    InMemorySpanExporter exporter;
+
+    @Inject
+    Tracer tracer;
+
+    @Inject
+    PlaywrightDispatcher dispatcher;
+
+    @BeforeEach
+    public void reset() {
+        exporter.reset();
+    }
+
+    @Test
+    public void callsAreClientSpansOfTheCurrentSpan() throws Exception {
+        final ReplyTransport transport = new ReplyTransport();
+        final Connection connection = ReplyTransport.newConnection(transport);
+        final Span parent = tracer.spanBuilder("test").startSpan();
+        try (Scope scope = parent.makeCurrent()) {
+            final JsonObject navigate = new JsonObject();
+            navigate.addProperty("url", "https://quarkus.io");
+            connection.sendMessage("frame@1", "goto", navigate);
+
+            final JsonObject click = new JsonObject();
+            click.addProperty("selector", "#submit");
+            connection.sendMessage("frame@1", "click", click);
+
+            transport.reply = ReplyTransport.error("Timeout 10ms exceeded");
+            Assertions.assertThrows(PlaywrightException.class,
+                    () -> connection.sendMessage("page@1", "screenshot", new JsonObject()));
+        } finally {
+            parent.end();
+            ReplyTransport.close(connection);
+        }
+
+        final List<SpanData> spans = spans(4);
+        final SpanData navigated = span(spans, "Frame.goto");
+        Assertions.assertEquals(SpanKind.CLIENT, navigated.getKind());
+        Assertions.assertEquals(parent.getSpanContext().getSpanId(), navigated.getParentSpanId());
+        Assertions.assertEquals("https://quarkus.io", navigated.getAttributes().get(AttributeKey.stringKey("url.full")));
+        Assertions.assertEquals("frame@1", navigated.getAttributes().get(AttributeKey.stringKey("playwright.guid")));
+        Assertions.assertEquals(StatusCode.UNSET, navigated.getStatus().getStatusCode());
+
+        final SpanData clicked = span(spans, "Frame.click");
+        Assertions.assertEquals(SpanKind.CLIENT, clicked.getKind());
+        Assertions.assertEquals(parent.getSpanContext().getSpanId(), clicked.getParentSpanId());
+        Assertions.assertEquals("#submit", clicked.getAttributes().get(AttributeKey.stringKey("playwright.selector")));
+
+        final SpanData screenshot = span(spans, "Page.screenshot");
+        Assertions.assertEquals(StatusCode.ERROR, screenshot.getStatus().getStatusCode());
+        Assertions.assertEquals("Timeout 10ms exceeded", screenshot.getStatus().getDescription());
+    }
+
+    @Test
+    public void dispatchedTasksRunInTheContextOfTheSubmitter() throws Exception {
+        final Span parent = tracer.spanBuilder("test").startSpan();
+        final CompletableFuture<String> version;
+        try (Scope scope = parent.makeCurrent()) {
+            version = dispatcher.submit(Browser::version).toCompletableFuture();
+        } finally {
+            parent.end();
+        }
+        // nothing listens on the endpoint, so the task fails once the owner thread started its Playwright instance
+        final CompletionException failure = Assertions.assertThrows(CompletionException.class, version::join);
+        Assertions.assertInstanceOf(PlaywrightException.class, failure.getCause());
+
+        final SpanData initialize = span(spans(2), "Playwright.initialize");
+        Assertions.assertEquals(SpanKind.CLIENT, initialize.getKind());
+        Assertions.assertEquals(parent.getSpanContext().getTraceId(), initialize.getTraceId());
+        Assertions.assertEquals(parent.getSpanContext().getSpanId(), initialize.getParentSpanId());
+    }
+
+    /**
+     * The spans exported once there are at least the expected number of them.
+     */
+    private List<SpanData> spans(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && exporter.getFinishedSpanItems().size() < expected; i++) {
+            Thread.sleep(50);
+        }
+        return exporter.getFinishedSpanItems();
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " span in " + spans));
+    }
+
+    public static class Exporter {
+
+        @Produces
+        @Singleton
+        InMemorySpanExporter exporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
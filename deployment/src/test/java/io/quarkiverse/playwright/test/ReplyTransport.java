@@ -0,0 +1,88 @@
+package io.quarkiverse.playwright.test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.impl.Connection;
+import com.microsoft.playwright.impl.Transport;
+
+/**
+ * Stands for the Playwright driver, answering every request with the reply set by the test, an empty result by
+ * default, after the events queued by the test.
+ */
+final class ReplyTransport implements Transport {
+
+    JsonObject reply = result();
+    final Deque<JsonObject> events = new ArrayDeque<>();
+    private int pendingId = -1;
+
+    /**
+     * A connection to the driver over the transport, as opened by {@code Playwright.create()}.
+     */
+    static Connection newConnection(Transport transport) throws ReflectiveOperationException {
+        final Constructor<Connection> constructor = Connection.class.getDeclaredConstructor(Transport.class, Map.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(transport, Map.of());
+    }
+
+    static void close(Connection connection) throws ReflectiveOperationException {
+        final Method close = Connection.class.getDeclaredMethod("close");
+        close.setAccessible(true);
+        close.invoke(connection);
+    }
+
+    static JsonObject result() {
+        final JsonObject reply = new JsonObject();
+        reply.add("result", new JsonObject());
+        return reply;
+    }
+
+    static JsonObject error(String message) {
+        final JsonObject error = new JsonObject();
+        error.addProperty("message", message);
+        final JsonObject serialized = new JsonObject();
+        serialized.add("error", error);
+        final JsonObject reply = new JsonObject();
+        reply.add("error", serialized);
+        return reply;
+    }
+
+    /**
+     * An event of the driver, such as {@code __create__} or {@code close}.
+     */
+    static JsonObject event(String guid, String method, JsonObject params) {
+        final JsonObject event = new JsonObject();
+        event.addProperty("guid", guid);
+        event.addProperty("method", method);
+        event.add("params", params);
+        return event;
+    }
+
+    @Override
+    public void send(JsonObject message) {
+        pendingId = message.get("id").getAsInt();
+    }
+
+    @Override
+    public JsonObject poll(Duration timeout) {
+        if (!events.isEmpty()) {
+            return events.poll();
+        }
+        if (pendingId < 0) {
+            return null;
+        }
+        final JsonObject response = reply.deepCopy();
+        response.addProperty("id", pendingId);
+        pendingId = -1;
+        return response;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -19,8 +19,10 @@ package io.quarkiverse.playwright.it;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 
@@ -31,6 +33,13 @@ import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
 import com.microsoft.playwright.options.AriaSnapshotMode;
+import com.microsoft.playwright.options.Cookie;
+
+import io.quarkiverse.playwright.BrowserContextPool;
+import io.quarkiverse.playwright.BrowserPool;
+import io.quarkiverse.playwright.PlaywrightDispatcher;
+import io.quarkiverse.playwright.ReactivePlaywright;
+import io.smallrye.mutiny.Uni;
 
 /**
  * Resource class demonstrating Playwright browser automation capabilities.
@@ -42,6 +51,18 @@ public class PlaywrightResource {
 
     private static final Logger log = Logger.getLogger(PlaywrightResource.class);
 
+    @Inject
+    BrowserPool browserPool;
+
+    @Inject
+    BrowserContextPool browserContextPool;
+
+    @Inject
+    PlaywrightDispatcher dispatcher;
+
+    @Inject
+    ReactivePlaywright reactivePlaywright;
+
     /**
      * Navigates to Google homepage and retrieves the page title using Playwright.
      *
@@ -137,4 +158,55 @@ public class PlaywrightResource {
         }
         return "Screenshots taken";
     }
+
+    /**
+     * Endpoint to render a page with a browser leased from the {@link BrowserPool} instead of launching one per request
+     */
+    @GET
+    @Path("/pooled")
+    public String pooledBrowser() {
+        try (BrowserPool.Lease lease = browserPool.lease()) {
+            try (Page page = lease.browser().newPage()) {
+                page.setContent("<html><head><title>Pooled</title></head><body></body></html>");
+                return page.title();
+            }
+        }
+    }
+
+    /**
+     * Endpoint to leave a cookie behind in a pooled context, returning the number of cookies found beforehand
+     */
+    @GET
+    @Path("/pooled-context")
+    public int pooledContext() {
+        try (BrowserContextPool.Lease lease = browserContextPool.lease()) {
+            final int cookies = lease.context().cookies().size();
+            lease.context().addCookies(List.of(new Cookie("tenant", "quarkus").setUrl("https://quarkus.io")));
+            return cookies;
+        }
+    }
+
+    /**
+     * Endpoint to render a page on one of the {@link PlaywrightDispatcher} owner threads without blocking the caller
+     */
+    @GET
+    @Path("/dispatched")
+    public CompletionStage<String> dispatched() {
+        return dispatcher.withPage(page -> {
+            page.setContent("<html><head><title>Dispatched</title></head><body></body></html>");
+            return page.title();
+        });
+    }
+
+    /**
+     * Endpoint to render a page through the {@link ReactivePlaywright} API without blocking the event loop
+     */
+    @GET
+    @Path("/reactive")
+    public Uni<String> reactive() {
+        return reactivePlaywright.newPage()
+                .chain(page -> page.setContent("<html><head><title>Reactive</title></head><body></body></html>")
+                        .chain(page::title)
+                        .call(page::close));
+    }
 }
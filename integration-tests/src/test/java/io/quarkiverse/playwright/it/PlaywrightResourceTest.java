@@ -49,4 +49,46 @@ public class PlaywrightResourceTest {
             assertTrue(Files.size(screenshotPath) > 0, "Screenshot file should not be empty for " + browser);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPooledEndpoint() {
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .when().get("/playwright/pooled")
+                    .then()
+                    .statusCode(200)
+                    .body(is("Pooled"));
+        }
+    }
+
+    @Test
+    public void testPooledContextEndpoint() {
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .when().get("/playwright/pooled-context")
+                    .then()
+                    .statusCode(200)
+                    .body(is("0"));
+        }
+    }
+
+    @Test
+    public void testDispatchedEndpoint() {
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .when().get("/playwright/dispatched")
+                    .then()
+                    .statusCode(200)
+                    .body(is("Dispatched"));
+        }
+    }
+
+    @Test
+    public void testReactiveEndpoint() {
+        given()
+                .when().get("/playwright/reactive")
+                .then()
+                .statusCode(200)
+                .body(is("Reactive"));
+    }
+}
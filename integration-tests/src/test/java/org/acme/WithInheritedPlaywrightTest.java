@@ -0,0 +1,19 @@
+package org.acme;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Runs the tests of {@link WithDefaultPlaywrightTest}, whose {@code @WithPlaywright} annotation is not inherited, like
+ * {@link PlaywrightIT} does in packaged mode.
+ */
+@QuarkusTest
+public class WithInheritedPlaywrightTest extends WithDefaultPlaywrightTest {
+
+    @Test
+    public void testInjected() {
+        Assertions.assertNotNull(context, "The @InjectPlaywright fields of the superclass are not injected");
+    }
+}
@@ -0,0 +1,42 @@
+package org.acme;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.Cookie;
+
+import io.quarkiverse.playwright.InjectPlaywright;
+import io.quarkiverse.playwright.WithPlaywright;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+@WithPlaywright
+public class WithPagePlaywrightTest {
+
+    @InjectPlaywright
+    Page page;
+
+    @InjectPlaywright
+    BrowserContext context;
+
+    @Test
+    public void testFirstMethodGetsFreshPage() {
+        assertFreshPageAndLeaveCookie();
+    }
+
+    @Test
+    public void testSecondMethodGetsFreshPage() {
+        assertFreshPageAndLeaveCookie();
+    }
+
+    private void assertFreshPageAndLeaveCookie() {
+        Assertions.assertSame(context, page.context());
+        Assertions.assertEquals(List.of(page), context.pages());
+        Assertions.assertTrue(context.cookies().isEmpty());
+        context.addCookies(List.of(new Cookie("test", "method").setUrl("https://quarkus.io")));
+    }
+}
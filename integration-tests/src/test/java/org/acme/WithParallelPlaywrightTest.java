@@ -0,0 +1,69 @@
+package org.acme;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Page;
+
+import io.quarkiverse.playwright.InjectPlaywright;
+import io.quarkiverse.playwright.WithPlaywright;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+@WithPlaywright(parallel = true, parallelism = 2)
+@Execution(ExecutionMode.CONCURRENT)
+public class WithParallelPlaywrightTest {
+
+    /**
+     * Released once two test methods run at the same time.
+     */
+    private static final CountDownLatch OVERLAP = new CountDownLatch(2);
+
+    /**
+     * The browsers of the running test methods.
+     */
+    private static final Set<Browser> RUNNING = ConcurrentHashMap.newKeySet();
+
+    @InjectPlaywright
+    Browser browser;
+
+    @InjectPlaywright
+    Page page;
+
+    @Test
+    public void testFirst() throws InterruptedException {
+        assertPageOnOwnBrowser("First");
+    }
+
+    @Test
+    public void testSecond() throws InterruptedException {
+        assertPageOnOwnBrowser("Second");
+    }
+
+    @Test
+    public void testThird() throws InterruptedException {
+        assertPageOnOwnBrowser("Third");
+    }
+
+    private void assertPageOnOwnBrowser(String title) throws InterruptedException {
+        Assertions.assertTrue(RUNNING.add(browser), "The browser is used by another running test method");
+        try {
+            OVERLAP.countDown();
+            Assertions.assertTrue(OVERLAP.await(60, TimeUnit.SECONDS), "The test methods did not run in parallel");
+
+            Assertions.assertSame(browser, page.context().browser());
+            page.setContent("<html><head><title>" + title + "</title></head><body></body></html>");
+            Assertions.assertEquals(title, page.title());
+        } finally {
+            RUNNING.remove(browser);
+        }
+    }
+}
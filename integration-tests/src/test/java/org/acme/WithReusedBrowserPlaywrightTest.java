@@ -0,0 +1,29 @@
+package org.acme;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+
+import io.quarkiverse.playwright.InjectPlaywright;
+import io.quarkiverse.playwright.WithPlaywright;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+@WithPlaywright(reuseBrowser = true)
+public class WithReusedBrowserPlaywrightTest {
+
+    @InjectPlaywright
+    Browser browser;
+
+    @InjectPlaywright
+    BrowserContext context;
+
+    @Test
+    public void testFreshContextOnSharedBrowser() {
+        Assertions.assertTrue(browser.isConnected());
+        Assertions.assertTrue(context.pages().isEmpty());
+        Assertions.assertTrue(context.cookies().isEmpty());
+    }
+}
@@ -0,0 +1,257 @@
+package io.quarkiverse.playwright;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+import io.quarkiverse.playwright.PlaywrightRuntimeConfig.BrowserContextPoolConfig.ResetStrategy;
+
+/**
+ * Leases pre-created {@link BrowserContext} instances, so callers skip the context creation round-trip.
+ * <p>
+ * Every context lives on a browser leased from the {@link BrowserPool}, one context per browser, and is created with
+ * the {@code quarkus.playwright.pool.context.*} settings:
+ *
+ * <pre>
+ * {@code
+ * @Inject
+ * BrowserContextPool pool;
+ *
+ * public byte[] render(String url) {
+ *     try (BrowserContextPool.Lease lease = pool.lease()) {
+ *         Page page = lease.context().newPage();
+ *         page.navigate(url);
+ *         return page.screenshot();
+ *     }
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * When a lease is returned its context is reset: pages are closed, routes are removed, cookies, permissions, storage
+ * and cache are cleared and the configured settings are re-applied. The context is only kept when its storage state is
+ * empty afterwards, otherwise it is closed and replaced. State that cannot be observed, such as init scripts, exposed
+ * bindings or listeners registered on the context, is not reset: callers registering any must
+ * {@linkplain Lease#discard() discard} the context, or configure {@code quarkus.playwright.pool.context.reset-strategy}
+ * to {@code discard}.
+ * </p>
+ */
+@ApplicationScoped
+public class BrowserContextPool {
+
+    private static final Logger log = Logger.getLogger(BrowserContextPool.class);
+
+    @Inject
+    BrowserPool browserPool;
+
+    @Inject
+    PlaywrightRuntimeConfig config;
+
+    private BrowserContextSettings settings;
+
+    /**
+     * Storage state without cookies nor origins, used to wipe the storage of returned contexts.
+     */
+    private Path emptyStorageState;
+
+    @PostConstruct
+    void init() {
+        settings = BrowserContextSettings.of(config.pool().context());
+        try {
+            emptyStorageState = Files.createTempFile("playwright-empty-storage-state", ".json");
+            Files.writeString(emptyStorageState, "{\"cookies\":[],\"origins\":[]}", StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a context on each of the browsers warmed up by the {@link BrowserPool}.
+     */
+    public void warmUp() {
+        final Deque<Lease> leases = new ArrayDeque<>();
+        try {
+            for (WithPlaywright.Browser type : config.pool().browsers()) {
+                for (int i = 0; i < config.pool().size(); i++) {
+                    leases.push(lease(type));
+                }
+            }
+        } finally {
+            leases.forEach(Lease::close);
+        }
+    }
+
+    /**
+     * Leases a context on a browser of the first configured browser type.
+     *
+     * @return the lease, which must be closed to return the context to the pool
+     */
+    public Lease lease() {
+        return lease(browserPool.lease());
+    }
+
+    /**
+     * Leases a context on a browser of the given type, waiting up to {@code quarkus.playwright.pool.lease-timeout}
+     * for a browser to become available.
+     *
+     * @param type the browser type
+     * @return the lease, which must be closed to return the context to the pool
+     * @throws IllegalStateException if no browser became available in time
+     */
+    public Lease lease(WithPlaywright.Browser type) {
+        return lease(browserPool.lease(type));
+    }
+
+    private Lease lease(BrowserPool.Lease browserLease) {
+        try {
+            BrowserContext context = browserLease.pooledContext();
+            if (context == null || context.isClosed()) {
+                context = newContext(browserLease.browser());
+                browserLease.pooledContext(context);
+            }
+            return new Lease(browserLease, context);
+        } catch (RuntimeException e) {
+            browserLease.close();
+            throw e;
+        }
+    }
+
+    private BrowserContext newContext(Browser browser) {
+        final BrowserContext context = browser.newContext(settings.applyTo(new Browser.NewContextOptions()));
+        settings.applyTo(context);
+        return context;
+    }
+
+    private void release(BrowserPool.Lease browserLease, BrowserContext context, boolean discard) {
+        try {
+            if (discard || config.pool().context().resetStrategy() == ResetStrategy.DISCARD
+                    || !reset(context)) {
+                browserLease.pooledContext(null);
+                closeQuietly(context);
+            }
+        } catch (RuntimeException e) {
+            log.debugf(e, "Failed to reset pooled browser context, discarding it");
+            browserLease.pooledContext(null);
+            closeQuietly(context);
+        } finally {
+            browserLease.close();
+        }
+    }
+
+    /**
+     * Clears everything a caller may have left in the context.
+     *
+     * @return {@code true} when the context is pristine again and can be reused
+     */
+    private boolean reset(BrowserContext context) {
+        if (context.isClosed() || !context.browser().isConnected()) {
+            return false;
+        }
+        for (Page page : List.copyOf(context.pages())) {
+            page.close();
+        }
+        context.unrouteAll();
+        context.clearPermissions();
+        context.setExtraHTTPHeaders(Map.of());
+        context.setGeolocation(null);
+        context.setOffline(settings.offline());
+        // also clears cookies, cache, local storage and IndexedDB of every origin the context visited
+        context.setStorageState(emptyStorageState);
+        settings.applyTo(context);
+
+        final JsonObject state = JsonParser
+                .parseString(context.storageState(new BrowserContext.StorageStateOptions().setIndexedDB(true)))
+                .getAsJsonObject();
+        return state.getAsJsonArray("cookies").isEmpty() && state.getAsJsonArray("origins").isEmpty()
+                && context.pages().isEmpty();
+    }
+
+    private static void closeQuietly(BrowserContext context) {
+        try {
+            context.close();
+        } catch (RuntimeException e) {
+            log.debugf(e, "Failed to close pooled browser context");
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        try {
+            Files.deleteIfExists(emptyStorageState);
+        } catch (IOException e) {
+            log.debugf(e, "Failed to delete %s", emptyStorageState);
+        }
+    }
+
+    /**
+     * A browser context leased from the {@link BrowserContextPool}. Closing the lease resets the context and returns it
+     * to the pool, it must not be used afterwards.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final BrowserPool.Lease browserLease;
+        private final BrowserContext context;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean discard;
+
+        private Lease(BrowserPool.Lease browserLease, BrowserContext context) {
+            this.browserLease = browserLease;
+            this.context = context;
+        }
+
+        /**
+         * @return the leased context
+         */
+        public BrowserContext context() {
+            if (closed.get()) {
+                throw new IllegalStateException("Browser context lease has already been returned to the pool");
+            }
+            return context;
+        }
+
+        /**
+         * @return the type of the browser the context lives on
+         */
+        public WithPlaywright.Browser type() {
+            return browserLease.type();
+        }
+
+        /**
+         * Closes the context instead of resetting it when the lease is returned. Use it after registering state that
+         * cannot be reset, such as init scripts, exposed bindings or context listeners.
+         */
+        public void discard() {
+            discard = true;
+        }
+
+        /**
+         * Resets the context and returns it to the pool.
+         */
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(browserLease, context, discard);
+            }
+        }
+    }
+}
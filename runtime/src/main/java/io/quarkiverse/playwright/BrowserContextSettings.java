@@ -0,0 +1,65 @@
+package io.quarkiverse.playwright;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.microsoft.playwright.Browser.NewContextOptions;
+import com.microsoft.playwright.BrowserContext;
+
+/**
+ * Browser context settings resolved either from a {@link BrowserContextConfig} annotation or from the
+ * {@code quarkus.playwright.pool.context.*} configuration, so tests and the {@link BrowserContextPool} configure their
+ * contexts the same way.
+ */
+record BrowserContextSettings(boolean offline, Optional<String> locale, Optional<String> timeZoneId,
+        Optional<String> userAgent, int viewportWidth, int viewportHeight, Optional<Duration> defaultNavigationTimeout,
+        Optional<Duration> defaultTimeout) {
+
+    static BrowserContextSettings of(BrowserContextConfig config) {
+        return new BrowserContextSettings(config.offline(),
+                nonBlank(config.locale()),
+                nonBlank(config.timeZoneId()),
+                nonBlank(config.userAgent()),
+                config.viewportSize().width(),
+                config.viewportSize().height(),
+                nonBlank(config.defaultNavigationTimeout()).map(Duration::parse),
+                nonBlank(config.defaultTimeout()).map(Duration::parse));
+    }
+
+    static BrowserContextSettings of(PlaywrightRuntimeConfig.BrowserContextPoolConfig config) {
+        return new BrowserContextSettings(config.offline(),
+                config.locale().filter(StringUtils::isNotBlank),
+                config.timeZoneId().filter(StringUtils::isNotBlank),
+                config.userAgent().filter(StringUtils::isNotBlank),
+                config.viewportSize().width(),
+                config.viewportSize().height(),
+                config.defaultNavigationTimeout(),
+                config.defaultTimeout());
+    }
+
+    /**
+     * Applies the settings that must be known when the context is created.
+     */
+    NewContextOptions applyTo(NewContextOptions contextOptions) {
+        contextOptions.setOffline(offline);
+        locale.ifPresent(contextOptions::setLocale);
+        timeZoneId.ifPresent(contextOptions::setTimezoneId);
+        contextOptions.setViewportSize(viewportWidth, viewportHeight);
+        userAgent.ifPresent(contextOptions::setUserAgent);
+        return contextOptions;
+    }
+
+    /**
+     * Applies the settings that can be changed on a live context.
+     */
+    void applyTo(BrowserContext context) {
+        defaultNavigationTimeout.ifPresent(timeout -> context.setDefaultNavigationTimeout(timeout.toMillis()));
+        defaultTimeout.ifPresent(timeout -> context.setDefaultTimeout(timeout.toMillis()));
+    }
+
+    private static Optional<String> nonBlank(String value) {
+        return Optional.ofNullable(value).filter(StringUtils::isNotBlank);
+    }
+}
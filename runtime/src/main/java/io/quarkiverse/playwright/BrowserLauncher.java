@@ -0,0 +1,75 @@
+package io.quarkiverse.playwright;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * Starts the browsers used at runtime, with the {@code quarkus.playwright.pool.*} launch options, either locally or
+ * on the remote Playwright servers set in {@code quarkus.playwright.endpoints} or {@code quarkus.playwright.endpoint}.
+ */
+final class BrowserLauncher {
+
+    private BrowserLauncher() {
+    }
+
+    static Browser start(Playwright playwright, WithPlaywright.Browser type, PlaywrightRuntimeConfig config) {
+        final BrowserType browserType = switch (type) {
+            case FIREFOX -> playwright.firefox();
+            case WEBKIT -> playwright.webkit();
+            default -> playwright.chromium();
+        };
+        final PlaywrightRuntimeConfig.BrowserPoolConfig pool = config.pool();
+        final List<String> endpoints = endpoints(config);
+
+        if (!endpoints.isEmpty()) {
+            return EndpointBalancer.of(endpoints, EndpointBalancer.Settings.of(config.balancer()))
+                    .connect(browserType, new BrowserType.ConnectOptions().setHeaders(remoteLaunchOptionsHeaders(pool)));
+        }
+
+        return browserType.launch(new BrowserType.LaunchOptions()
+                .setChannel(pool.channel().orElse(""))
+                .setChromiumSandbox(pool.chromiumSandbox())
+                .setHeadless(pool.headless())
+                .setArgs(pool.args()));
+    }
+
+    private static List<String> endpoints(PlaywrightRuntimeConfig config) {
+        final List<String> endpoints = config.endpoints().orElse(List.of()).stream()
+                .filter(StringUtils::isNotBlank)
+                .toList();
+        if (!endpoints.isEmpty()) {
+            return endpoints;
+        }
+        return config.endpoint().filter(StringUtils::isNotBlank).map(List::of).orElse(List.of());
+    }
+
+    /**
+     * Maps the pool launch options into the {@code x-playwright-launch-options} header understood by a remote
+     * Playwright server, the same way {@link QuarkusPlaywrightManager} does for tests.
+     */
+    private static Map<String, String> remoteLaunchOptionsHeaders(PlaywrightRuntimeConfig.BrowserPoolConfig pool) {
+        final JsonArrayBuilder argsBuilder = Json.createArrayBuilder();
+        pool.args().forEach(argsBuilder::add);
+
+        final JsonObjectBuilder launchOptionsBuilder = Json.createObjectBuilder()
+                .add("args", argsBuilder.build())
+                .add("headless", pool.headless())
+                .add("chromiumSandbox", pool.chromiumSandbox());
+        pool.channel().filter(StringUtils::isNotBlank).ifPresent(channel -> launchOptionsBuilder.add("channel", channel));
+
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("x-playwright-launch-options", launchOptionsBuilder.build().toString());
+        return headers;
+    }
+}
@@ -0,0 +1,277 @@
+package io.quarkiverse.playwright;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * Keeps warm {@link Browser} instances per browser type and leases them to callers.
+ * <p>
+ * Launching a browser means spawning the Playwright driver and a browser process, which takes from hundreds of
+ * milliseconds to seconds. The pool pays that cost once and hands the same browsers out again and again, so
+ * callers run at steady-state latency:
+ *
+ * <pre>
+ * {@code
+ * @Inject
+ * BrowserPool pool;
+ *
+ * public byte[] render(String url) {
+ *     try (BrowserPool.Lease lease = pool.lease()) {
+ *         try (Page page = lease.browser().newPage()) {
+ *             page.navigate(url);
+ *             return page.screenshot();
+ *         }
+ *     }
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Every pooled browser owns its own {@link Playwright} instance, and a browser is leased to one caller at a time.
+ * Playwright objects are not thread-safe, so a lease must not be shared between threads. Browsers that got
+ * disconnected while leased are discarded on return and replaced on the next lease.
+ * </p>
+ * <p>
+ * The pool relies on the sequential use of a browser by different threads: it is launched by the thread of its first
+ * lease, or of the warm-up, and then used by the thread of every lease, such as request threads. Playwright for Java
+ * allows it as long as one thread at a time calls its objects, with proper synchronization between them: its
+ * connection reads the messages of the driver on a thread of its own, but dispatches them, events included, on the
+ * thread calling Playwright. The pool leases a browser to one thread at a time, and the semaphore and the idle deque
+ * handing it over order every use before the next lease. Callers needing Playwright objects confined to one thread,
+ * or to share them, should use the {@link PlaywrightDispatcher} instead.
+ * </p>
+ * <p>
+ * The pool is configured with the {@code quarkus.playwright.pool.*} properties. When
+ * {@code quarkus.playwright.endpoint} is set, pooled browsers connect to that Playwright server instead of being
+ * launched locally.
+ * </p>
+ */
+@ApplicationScoped
+public class BrowserPool {
+
+    private static final Logger log = Logger.getLogger(BrowserPool.class);
+
+    @Inject
+    PlaywrightRuntimeConfig config;
+
+    private final Map<WithPlaywright.Browser, TypePool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Every browser created by this pool, leased or idle, so they can all be closed on shutdown.
+     */
+    private final Set<PooledBrowser> browsers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Launches {@code quarkus.playwright.pool.size} browsers for each of the configured browser types.
+     */
+    public void warmUp() {
+        // hold every lease until all browsers are started, otherwise the same browser would be leased repeatedly
+        final Deque<Lease> leases = new ArrayDeque<>();
+        try {
+            for (WithPlaywright.Browser type : config.pool().browsers()) {
+                for (int i = 0; i < config.pool().size(); i++) {
+                    leases.push(lease(type));
+                }
+            }
+        } finally {
+            leases.forEach(Lease::close);
+        }
+        log.infof("Playwright browser pool warmed up with %d browser(s)", browsers.size());
+    }
+
+    /**
+     * Leases a browser of the first configured browser type.
+     *
+     * @return the lease, which must be closed to return the browser to the pool
+     */
+    public Lease lease() {
+        return lease(config.pool().browsers().isEmpty() ? WithPlaywright.Browser.CHROMIUM : config.pool().browsers().get(0));
+    }
+
+    /**
+     * Leases a browser of the given type, waiting up to {@code quarkus.playwright.pool.lease-timeout} for one to
+     * become available.
+     *
+     * @param type the browser type
+     * @return the lease, which must be closed to return the browser to the pool
+     * @throws IllegalStateException if no browser became available in time
+     */
+    public Lease lease(WithPlaywright.Browser type) {
+        final TypePool pool = pools.computeIfAbsent(type, t -> new TypePool(config.pool().size()));
+        try {
+            final long start = System.nanoTime();
+            final boolean acquired = pool.permits.tryAcquire(config.pool().leaseTimeout().toMillis(),
+                    TimeUnit.MILLISECONDS);
+            PlaywrightObservers.leaseWaited(type, System.nanoTime() - start, acquired);
+            if (!acquired) {
+                throw new IllegalStateException("Timed out after " + config.pool().leaseTimeout()
+                        + " waiting for a pooled " + type + " browser, consider increasing quarkus.playwright.pool.size");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled " + type + " browser", e);
+        }
+
+        try {
+            PooledBrowser pooled;
+            while ((pooled = pool.idle.pollFirst()) != null && !pooled.browser.isConnected()) {
+                discard(pooled);
+            }
+            if (pooled == null) {
+                pooled = create(type);
+            }
+            return new Lease(pool, pooled);
+        } catch (RuntimeException e) {
+            pool.permits.release();
+            throw e;
+        }
+    }
+
+    private PooledBrowser create(WithPlaywright.Browser type) {
+        final Playwright playwright = Playwright.create();
+        try {
+            final PooledBrowser pooled = new PooledBrowser(type, playwright, BrowserLauncher.start(playwright, type, config));
+            browsers.add(pooled);
+            log.debugf("Started pooled %s browser %s", type, pooled.browser.version());
+            return pooled;
+        } catch (RuntimeException e) {
+            playwright.close();
+            throw e;
+        }
+    }
+
+    private void release(TypePool pool, PooledBrowser pooled) {
+        try {
+            if (pooled.browser.isConnected()) {
+                pool.idle.offerFirst(pooled);
+            } else {
+                discard(pooled);
+            }
+        } finally {
+            pool.permits.release();
+        }
+    }
+
+    private void discard(PooledBrowser pooled) {
+        log.debugf("Discarding disconnected pooled %s browser", pooled.type);
+        browsers.remove(pooled);
+        pooled.close();
+    }
+
+    /**
+     * Closes every browser created by the pool, including the ones that are still leased.
+     */
+    @PreDestroy
+    void close() {
+        browsers.forEach(PooledBrowser::close);
+        browsers.clear();
+        pools.clear();
+    }
+
+    /**
+     * A browser leased from the {@link BrowserPool}. Closing the lease returns the browser to the pool, it must not be
+     * used afterwards.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final TypePool pool;
+        private final PooledBrowser pooled;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Lease(TypePool pool, PooledBrowser pooled) {
+            this.pool = pool;
+            this.pooled = pooled;
+        }
+
+        /**
+         * @return the leased browser
+         */
+        public Browser browser() {
+            if (closed.get()) {
+                throw new IllegalStateException("Browser lease has already been returned to the pool");
+            }
+            return pooled.browser;
+        }
+
+        /**
+         * @return the type of the leased browser
+         */
+        public WithPlaywright.Browser type() {
+            return pooled.type;
+        }
+
+        /**
+         * @return the context kept warm on the leased browser by the {@link BrowserContextPool}, or {@code null}
+         */
+        BrowserContext pooledContext() {
+            return pooled.context;
+        }
+
+        void pooledContext(BrowserContext context) {
+            pooled.context = context;
+        }
+
+        /**
+         * Returns the browser to the pool.
+         */
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(pool, pooled);
+            }
+        }
+    }
+
+    private static final class TypePool {
+
+        private final Semaphore permits;
+        private final Deque<PooledBrowser> idle = new ConcurrentLinkedDeque<>();
+
+        private TypePool(int size) {
+            this.permits = new Semaphore(size, true);
+        }
+    }
+
+    private static final class PooledBrowser {
+
+        private final WithPlaywright.Browser type;
+        private final Playwright playwright;
+        private final Browser browser;
+
+        /**
+         * Only accessed by the lease holder, the hand-over between leases goes through the idle deque.
+         */
+        private BrowserContext context;
+
+        private PooledBrowser(WithPlaywright.Browser type, Playwright playwright, Browser browser) {
+            this.type = type;
+            this.playwright = playwright;
+            this.browser = browser;
+        }
+
+        void close() {
+            try {
+                playwright.close();
+            } catch (RuntimeException e) {
+                log.debugf(e, "Failed to close pooled %s browser", type);
+            }
+        }
+    }
+}
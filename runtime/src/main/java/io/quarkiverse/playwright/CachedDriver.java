@@ -0,0 +1,440 @@
+package io.quarkiverse.playwright;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.impl.driver.Driver;
+
+/**
+ * Playwright {@link Driver} extracting the bundled driver once into a persistent cache directory, instead of into a
+ * new temporary directory for every JVM like the default {@code DriverJar} does.
+ * <p>
+ * The cache directory is keyed by the driver version and the platform, for instance
+ * {@code ~/.cache/quarkus-playwright/driver/1.61.0-linux}. It is only written when no valid extraction exists for the
+ * key: the driver is extracted into a sibling directory under a file lock, verified against the SHA-256 checksums of
+ * the bundled resources, and moved into place. The directory then holds a {@value #MANIFEST} file listing the checksum
+ * and size of every extracted file. Later runs only compare the file sizes with the manifest, so starting Playwright
+ * no longer copies the ~120MB Node.js binary.
+ * </p>
+ * <p>
+ * The driver is selected through the {@code playwright.driver.impl} system property, which the extension sets unless
+ * it is already defined or the cache is disabled, for the application, and for the tests until they stop. The cache location
+ * defaults to {@code $XDG_CACHE_HOME/quarkus-playwright/driver}, or
+ * {@code ~/.cache/quarkus-playwright/driver}, and can be changed with the {@value #CACHE_DIR_PROPERTY} system
+ * property. A valid driver extracted by the build into the {@value #PACKAGED_DIR_NAME} directory of the packaged
+ * application takes precedence over the cache.
+ * </p>
+ */
+public class CachedDriver extends Driver {
+
+    /**
+     * System property holding the root directory of the driver cache.
+     */
+    public static final String CACHE_DIR_PROPERTY = "playwright.driver.cache.dir";
+
+    /**
+     * Name of the directory, next to the packaged application, into which the build extracts the driver.
+     */
+    public static final String PACKAGED_DIR_NAME = "playwright-driver";
+
+    static final String DRIVER_IMPL_PROPERTY = "playwright.driver.impl";
+    static final String PACKAGED_DIR_PROPERTY = "playwright.driver.packaged.dir";
+    static final String MANIFEST = ".quarkus-playwright-driver.sha256";
+    static final String ENABLED_CONFIG = "quarkus.playwright.driver-cache.enabled";
+
+    private static final String NODEJS_PATH_PROPERTY = "playwright.nodejs.path";
+    private static final Set<String> EXECUTABLES = Set.of("node", "node.exe", "xdg-open");
+    private static final String[] VERSION_RESOURCES = {
+            "META-INF/maven/com.microsoft.playwright/driver-bundle/pom.properties",
+            "META-INF/maven/com.microsoft.playwright/driver/pom.properties" };
+
+    /**
+     * The selections of this driver not released yet, and whether the first one set the property, guarded by the class.
+     */
+    private static int selections;
+    private static boolean selected;
+
+    private final Path driverDir;
+
+    public CachedDriver() {
+        final String key = key(platform());
+        final String packaged = System.getProperty(PACKAGED_DIR_PROPERTY);
+        // the driver extracted by the build is read only, it is used as is or not at all
+        if (packaged != null && isValid(Paths.get(packaged, key))) {
+            this.driverDir = Paths.get(packaged, key);
+        } else {
+            this.driverDir = cacheRoot().resolve(key);
+        }
+    }
+
+    /**
+     * Selects this driver for the {@link com.microsoft.playwright.Playwright} instances created afterwards, unless
+     * another driver is already configured.
+     */
+    static void enable() {
+        if (System.getProperty(DRIVER_IMPL_PROPERTY) == null) {
+            System.setProperty(DRIVER_IMPL_PROPERTY, CachedDriver.class.getName());
+        }
+    }
+
+    /**
+     * Selects this driver, like {@link #enable()}, until every selection is {@link #release() released}, when the
+     * property is cleared again if it was set by the first selection.
+     */
+    static synchronized void select() {
+        if (selections++ == 0 && System.getProperty(DRIVER_IMPL_PROPERTY) == null) {
+            System.setProperty(DRIVER_IMPL_PROPERTY, CachedDriver.class.getName());
+            selected = true;
+        }
+    }
+
+    static synchronized void release() {
+        if (selections > 0 && --selections == 0 && selected) {
+            System.clearProperty(DRIVER_IMPL_PROPERTY);
+            selected = false;
+        }
+    }
+
+    /**
+     * Whether the driver cache is enabled with {@value #ENABLED_CONFIG}, and no other driver is configured.
+     */
+    static boolean enabled() {
+        final String driver = System.getProperty(DRIVER_IMPL_PROPERTY);
+        return (driver == null || driver.equals(CachedDriver.class.getName()))
+                && ConfigProvider.getConfig().getOptionalValue(ENABLED_CONFIG, Boolean.class).orElse(true);
+    }
+
+    /**
+     * Installs this driver, and the browsers, to start Playwright processes other than the driver of a
+     * {@link com.microsoft.playwright.Playwright} instance, such as a Playwright server. The driver is not selected for
+     * the Playwright instances of the JVM, and the driver they use is installed instead when the driver cache is not
+     * {@link #enabled()}.
+     *
+     * @param env the environment of the installation
+     * @return the installed driver
+     */
+    public static Driver install(Map<String, String> env) {
+        if (!enabled()) {
+            return Driver.ensureDriverInstalled(env, true);
+        }
+        final CachedDriver driver = new CachedDriver();
+        driver.env.putAll(env);
+        try {
+            driver.initialize(true);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PlaywrightException("Failed to install the Playwright driver", e);
+        }
+        return driver;
+    }
+
+    /**
+     * Extracts the driver for the given platform into {@code root}, unless a valid extraction already exists there.
+     *
+     * @param root the root directory, the driver goes into a subdirectory keyed by the driver version and the platform
+     * @param platform the platform, as named by the bundled driver resources, for instance {@code linux-arm64}
+     * @return the driver directory
+     * @throws IOException if the driver cannot be extracted
+     */
+    public static Path extract(Path root, String platform) throws IOException {
+        final Path dir = root.resolve(key(platform));
+        if (!isValid(dir)) {
+            extract(dir, platform, true);
+        }
+        return dir;
+    }
+
+    @Override
+    protected void initialize(Boolean installBrowsers) throws Exception {
+        final String nodePath = System.getProperty(NODEJS_PATH_PROPERTY);
+        if (nodePath != null && !env.containsKey(PLAYWRIGHT_NODEJS_PATH)) {
+            if (!Files.exists(Paths.get(nodePath))) {
+                throw new PlaywrightException("Invalid Node.js path specified: " + nodePath);
+            }
+            env.put(PLAYWRIGHT_NODEJS_PATH, nodePath);
+        }
+        if (isValid(driverDir)) {
+            logMessage("reusing cached driver " + driverDir);
+        } else {
+            extract(driverDir, platform(), !env.containsKey(PLAYWRIGHT_NODEJS_PATH));
+            logMessage("extracted driver from jar to " + driverDir);
+        }
+        if (installBrowsers) {
+            installBrowsers();
+        }
+    }
+
+    @Override
+    public Path driverDir() {
+        return driverDir;
+    }
+
+    private static void extract(Path driverDir, String platform, boolean nodeRequired) throws IOException {
+        final Path root = driverDir.getParent();
+        Files.createDirectories(root);
+        // FileLock only guards against other processes, threads of this JVM are serialized by the monitor
+        synchronized (CachedDriver.class) {
+            try (FileChannel channel = FileChannel.open(root.resolve(driverDir.getFileName() + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock lock = channel.lock()) {
+                // another process may have completed the extraction while this one waited for the lock
+                if (isValid(driverDir)) {
+                    return;
+                }
+                final Path staging = root.resolve(driverDir.getFileName() + ".tmp-" + UUID.randomUUID());
+                try {
+                    final List<String> manifest = new ArrayList<>();
+                    copyResource("driver/package", staging.resolve("package"), "package/", manifest, true);
+                    copyResource("driver/" + platform, staging, "", manifest, nodeRequired);
+                    Collections.sort(manifest);
+                    if (!isValid(staging, manifest)) {
+                        throw new PlaywrightException("Extracted Playwright driver does not match its checksums");
+                    }
+                    Files.write(staging.resolve(MANIFEST), manifest, StandardCharsets.UTF_8);
+                    delete(driverDir);
+                    try {
+                        Files.move(staging, driverDir, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(staging, driverDir);
+                    }
+                } finally {
+                    delete(staging);
+                }
+            }
+        }
+    }
+
+    private static void copyResource(String name, Path target, String prefix, List<String> manifest, boolean required)
+            throws IOException {
+        final URL url = CachedDriver.class.getClassLoader().getResource(name);
+        if (url == null) {
+            if (required) {
+                throw new PlaywrightException("Failed to find the bundled Playwright driver resource " + name);
+            }
+            return;
+        }
+        final URI uri;
+        try {
+            uri = url.toURI();
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+        FileSystem opened = null;
+        Path source;
+        try {
+            source = Paths.get(uri);
+        } catch (FileSystemNotFoundException e) {
+            opened = FileSystems.newFileSystem(uri, Collections.emptyMap());
+            source = opened.provider().getPath(uri);
+        }
+        try (Stream<Path> files = Files.walk(source)) {
+            final Path from = source;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                final String relative = from.relativize(file).toString().replace(file.getFileSystem().getSeparator(),
+                        "/");
+                final Path to = target.resolve(relative.isEmpty() ? "." : relative).normalize();
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(to);
+                    continue;
+                }
+                final MessageDigest digest = sha256();
+                try (InputStream in = Files.newInputStream(file)) {
+                    Files.copy(new DigestInputStream(in, digest), to);
+                }
+                if (isExecutable(to)) {
+                    to.toFile().setExecutable(true, true);
+                }
+                manifest.add(HexFormat.of().formatHex(digest.digest()) + ' ' + Files.size(to) + ' ' + prefix + relative);
+            }
+        } finally {
+            if (opened != null) {
+                opened.close();
+            }
+        }
+    }
+
+    /**
+     * Cheap check run on every start: the manifest exists and every listed file has its recorded size.
+     */
+    private static boolean isValid(Path dir) {
+        final Path manifest = dir.resolve(MANIFEST);
+        if (!Files.isRegularFile(manifest)) {
+            return false;
+        }
+        try {
+            for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                final String[] entry = line.split(" ", 3);
+                final Path file = dir.resolve(entry[2]);
+                if (!Files.isRegularFile(file) || Files.size(file) != Long.parseLong(entry[1])) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Full check run once per extraction: the content of every extracted file matches the checksum of its resource.
+     */
+    private static boolean isValid(Path dir, List<String> manifest) throws IOException {
+        for (String line : manifest) {
+            final String[] entry = line.split(" ", 3);
+            final MessageDigest digest = sha256();
+            try (InputStream in = Files.newInputStream(dir.resolve(entry[2]))) {
+                final byte[] buffer = new byte[64 * 1024];
+                for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            if (!HexFormat.of().formatHex(digest.digest()).equals(entry[0])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void installBrowsers() throws IOException, InterruptedException {
+        if (isSet("PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD", true)) {
+            logMessage("Skipping browsers download because `PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD` env variable is set");
+            return;
+        }
+        if (isSet("SELENIUM_REMOTE_URL", false)) {
+            logMessage("Skipping browsers download because `SELENIUM_REMOTE_URL` env variable is set");
+            return;
+        }
+        final ProcessBuilder pb = createProcessBuilder();
+        pb.command().add("install");
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        pb.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+        final Process process = pb.start();
+        if (!process.waitFor(10, TimeUnit.MINUTES)) {
+            process.destroy();
+            throw new PlaywrightException("Timed out waiting for browsers to install");
+        }
+        if (process.exitValue() != 0) {
+            throw new PlaywrightException("Failed to install browsers, exit code: " + process.exitValue());
+        }
+    }
+
+    private boolean isSet(String variable, boolean flag) {
+        final String value = env.containsKey(variable) ? env.get(variable) : System.getenv(variable);
+        return value != null && !(flag && ("0".equals(value) || "false".equals(value)));
+    }
+
+    /**
+     * Whether the file is run by the driver: the Node.js binary, the launcher scripts, and the {@code xdg-open} script
+     * the driver bundles, but not the licenses and notices without an extension.
+     */
+    private static boolean isExecutable(Path file) {
+        final String name = file.getFileName().toString();
+        return EXECUTABLES.contains(name) || name.endsWith(".sh") || name.endsWith(".cmd");
+    }
+
+    private static Path cacheRoot() {
+        final String configured = System.getProperty(CACHE_DIR_PROPERTY);
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        final String xdg = System.getenv("XDG_CACHE_HOME");
+        final Path base = xdg != null && !xdg.isEmpty() ? Paths.get(xdg)
+                : Paths.get(System.getProperty("user.home"), ".cache");
+        return base.resolve("quarkus-playwright").resolve("driver");
+    }
+
+    private static String key(String platform) {
+        return version() + '-' + platform;
+    }
+
+    private static String version() {
+        final ClassLoader classLoader = CachedDriver.class.getClassLoader();
+        for (String resource : VERSION_RESOURCES) {
+            try (InputStream in = classLoader.getResourceAsStream(resource)) {
+                if (in != null) {
+                    final Properties properties = new Properties();
+                    properties.load(in);
+                    final String version = properties.getProperty("version");
+                    if (version != null) {
+                        return version;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        throw new PlaywrightException("Failed to determine the version of the bundled Playwright driver");
+    }
+
+    /**
+     * @return the platform of this JVM, as named by the bundled driver resources
+     */
+    public static String platform() {
+        final String name = System.getProperty("os.name").toLowerCase(Locale.ROOT);
+        final String arch = System.getProperty("os.arch").toLowerCase(Locale.ROOT);
+        if (name.contains("windows")) {
+            return "win32_x64";
+        }
+        if (name.contains("linux")) {
+            return arch.equals("aarch64") ? "linux-arm64" : "linux";
+        }
+        if (name.contains("mac os x")) {
+            return arch.equals("aarch64") ? "mac-arm64" : "mac";
+        }
+        throw new PlaywrightException("Unexpected os.name value: " + name);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void delete(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkiverse.playwright;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * The readiness of the Playwright servers that Dev Services start in the background.
+ * <p>
+ * Dev Services publish the endpoint of a server once its container is bound to a port, before the server started, so
+ * that starting it overlaps with the build and the boot of the application. They also publish, in the
+ * {@value #READY_BY} configuration property, the time by which the servers start. Until then, the clients wait for the
+ * server to answer when they first connect to it. The property is part of the configuration of the application, so
+ * that the applications running in another process, such as the packaged application of an integration test, wait as
+ * well.
+ * </p>
+ */
+public final class DevServicesEndpoints {
+
+    /**
+     * The time by which the servers started by Dev Services in the background are started, in milliseconds since the
+     * epoch.
+     */
+    public static final String READY_BY = "io.quarkiverse.playwright.devservices.ready-by";
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(1);
+
+    private DevServicesEndpoints() {
+    }
+
+    /**
+     * Waits for the server of the endpoint to answer, when Dev Services are starting it, until the time they published.
+     * A server not answering by then is left to fail the connection.
+     *
+     * @param endpoint the endpoint
+     */
+    public static void await(String endpoint) {
+        final Optional<Long> readyBy = ConfigProvider.getConfig().getOptionalValue(READY_BY, Long.class);
+        if (readyBy.isEmpty() || System.currentTimeMillis() >= readyBy.get()) {
+            return;
+        }
+        final URI uri;
+        try {
+            uri = EndpointBalancer.httpUri(endpoint);
+        } catch (IllegalArgumentException e) {
+            // not an endpoint of Dev Services, left to fail the connection
+            return;
+        }
+        final HttpClient client = HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT).build();
+        while (!answers(client, uri) && System.currentTimeMillis() < readyBy.get()) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the Playwright Dev Services server at "
+                        + endpoint, e);
+            }
+        }
+    }
+
+    /**
+     * Whether the server answers a plain HTTP request, which a Playwright server answers with an error since it is not a
+     * websocket upgrade.
+     */
+    private static boolean answers(HttpClient client, URI uri) {
+        try {
+            client.send(HttpRequest.newBuilder(uri).timeout(PROBE_TIMEOUT).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the Playwright Dev Services server at " + uri,
+                    e);
+        }
+    }
+}
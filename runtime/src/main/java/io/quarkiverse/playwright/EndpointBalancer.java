@@ -0,0 +1,289 @@
+package io.quarkiverse.playwright;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.PlaywrightException;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+
+/**
+ * Spreads the browser connections across the endpoints of several Playwright servers, such as the instances started by
+ * Dev Services or a fleet of remote servers.
+ * <p>
+ * The healthy endpoint with the fewest open connections for its weight is chosen, and endpoints with as many take
+ * turns. A connection counts from its selection until its browser disconnects, so that browsers connecting at the same
+ * time are not all sent to the same server. An endpoint failing a connection is ejected until a health check finds it
+ * serving again, and the connection is retried on another endpoint after a backoff. The health check is a plain HTTP
+ * request to the endpoint, which a Playwright server answers with an error since it is not a websocket upgrade: any
+ * response proves the server is up. When every endpoint is ejected, all of them are tried anyway.
+ * </p>
+ * <p>
+ * The balancers are shared by all the users of the same endpoints and settings in the JVM, such as the test classes, so
+ * that they all count the same connections. They are dropped, and their health checks stopped, when the application
+ * stops.
+ * </p>
+ */
+final class EndpointBalancer {
+
+    private static final Logger log = Logger.getLogger(EndpointBalancer.class);
+
+    static final Settings DEFAULTS = new Settings(List.of(), Duration.ofSeconds(10), 3, Duration.ofMillis(500));
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(2);
+    /**
+     * The timeout of the connections made without one, which Playwright would otherwise wait for forever.
+     */
+    static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Map<Key, EndpointBalancer> balancers = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService prober;
+    private static volatile HttpClient httpClient;
+
+    /**
+     * The endpoints, guarded by {@code this}.
+     */
+    private final List<Node> nodes;
+    private final Settings settings;
+    private int next;
+
+    private EndpointBalancer(List<String> endpoints, Settings settings) {
+        this.settings = settings;
+        this.nodes = new ArrayList<>();
+        for (int i = 0; i < endpoints.size(); i++) {
+            nodes.add(new Node(endpoints.get(i), settings.weights().isEmpty() ? 1 : settings.weights().get(i)));
+        }
+    }
+
+    /**
+     * The balancer of the endpoints, probing their health in the background when there are several of them.
+     *
+     * @param endpoints the endpoints, at least one
+     * @throws ConfigurationException if an endpoint is not an absolute URI with a host, or the weights do not match the
+     *         endpoints
+     */
+    static EndpointBalancer of(List<String> endpoints, Settings settings) {
+        for (String endpoint : endpoints) {
+            try {
+                httpUri(endpoint);
+            } catch (IllegalArgumentException e) {
+                throw new ConfigurationException("quarkus.playwright.endpoints has an invalid endpoint: "
+                        + e.getMessage(), Set.of("quarkus.playwright.endpoints"));
+            }
+        }
+        if (!settings.weights().isEmpty() && settings.weights().size() != endpoints.size()) {
+            throw new ConfigurationException("quarkus.playwright.balancer.weights has " + settings.weights().size()
+                    + " weights for " + endpoints.size() + " endpoints", Set.of("quarkus.playwright.balancer.weights"));
+        }
+        if (settings.weights().stream().anyMatch(weight -> weight < 1)) {
+            throw new ConfigurationException("quarkus.playwright.balancer.weights must be at least 1, was "
+                    + settings.weights(), Set.of("quarkus.playwright.balancer.weights"));
+        }
+        return balancers.computeIfAbsent(new Key(List.copyOf(endpoints), settings), key -> {
+            final EndpointBalancer balancer = new EndpointBalancer(key.endpoints(), key.settings());
+            if (key.endpoints().size() > 1) {
+                final long interval = settings.healthCheckInterval().toMillis();
+                prober().scheduleWithFixedDelay(balancer::probe, interval, interval, TimeUnit.MILLISECONDS);
+            }
+            return balancer;
+        });
+    }
+
+    private static synchronized ScheduledExecutorService prober() {
+        if (prober == null) {
+            prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "playwright-endpoint-health");
+                thread.setDaemon(true);
+                return thread;
+            });
+            httpClient = HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT).build();
+        }
+        return prober;
+    }
+
+    /**
+     * Stops the health checks and drops the balancers, so that a restarted application starts afresh.
+     */
+    static synchronized void shutdown() {
+        balancers.clear();
+        if (prober != null) {
+            prober.shutdownNow();
+            prober = null;
+            httpClient = null;
+        }
+    }
+
+    /**
+     * Connects a browser to the next endpoint, retrying on the other endpoints with a doubling backoff.
+     *
+     * @param options the options of the connection, given a timeout of {@link #CONNECT_TIMEOUT} when they have none
+     * @throws PlaywrightException the failure of the last attempt
+     */
+    Browser connect(BrowserType browserType, BrowserType.ConnectOptions options) {
+        if (options.timeout == null) {
+            options.setTimeout(CONNECT_TIMEOUT.toMillis());
+        }
+        final int attempts = Math.max(1, settings.connectAttempts());
+        long backoff = settings.connectBackoff().toMillis();
+        for (int attempt = 1;; attempt++) {
+            final String endpoint = select();
+            final Browser browser;
+            try {
+                DevServicesEndpoints.await(endpoint);
+                browser = browserType.connect(endpoint, options);
+            } catch (PlaywrightException e) {
+                release(endpoint);
+                if (nodes.size() > 1) {
+                    health(endpoint, false);
+                }
+                if (attempt >= attempts) {
+                    throw e;
+                }
+                log.warnf("Failed to connect to the Playwright server at %s, attempt %d of %d: %s", endpoint, attempt,
+                        attempts, e.getMessage());
+                sleep(backoff);
+                backoff *= 2;
+                continue;
+            } catch (RuntimeException e) {
+                release(endpoint);
+                throw e;
+            }
+            browser.onDisconnected(disconnected -> release(endpoint));
+            return browser;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while connecting to the Playwright server", e);
+        }
+    }
+
+    /**
+     * Chooses the endpoint of the next connection, which must be {@link #release(String) released} once closed.
+     */
+    synchronized String select() {
+        final boolean anyHealthy = nodes.stream().anyMatch(node -> node.healthy);
+        final int start = Math.floorMod(next++, nodes.size());
+        Node selected = null;
+        for (int i = 0; i < nodes.size(); i++) {
+            final Node node = nodes.get((start + i) % nodes.size());
+            if (anyHealthy && !node.healthy) {
+                continue;
+            }
+            // the load of a node once it gets this connection, compared without division
+            if (selected == null || (long) (node.open + 1) * selected.weight < (long) (selected.open + 1) * node.weight) {
+                selected = node;
+            }
+        }
+        selected.open++;
+        return selected.endpoint;
+    }
+
+    /**
+     * Releases a connection to the endpoint, once closed or failed.
+     */
+    synchronized void release(String endpoint) {
+        for (Node node : nodes) {
+            if (node.endpoint.equals(endpoint) && node.open > 0) {
+                node.open--;
+                return;
+            }
+        }
+    }
+
+    private synchronized void health(String endpoint, boolean healthy) {
+        for (Node node : nodes) {
+            if (node.endpoint.equals(endpoint) && node.healthy != healthy) {
+                node.healthy = healthy;
+                if (healthy) {
+                    log.infof("Playwright server at %s is serving again", endpoint);
+                } else {
+                    log.warnf("Playwright server at %s is ejected until it serves again", endpoint);
+                }
+            }
+        }
+    }
+
+    private void probe() {
+        final HttpClient client = httpClient;
+        if (client == null) {
+            // shut down
+            return;
+        }
+        for (Node node : nodes) {
+            // a failure must not cancel the health checks, which a scheduled task throwing would
+            try {
+                final HttpRequest request = HttpRequest.newBuilder(httpUri(node.endpoint)).timeout(PROBE_TIMEOUT).GET()
+                        .build();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> health(node.endpoint,
+                                failure == null && response.statusCode() < 500));
+            } catch (RuntimeException e) {
+                log.debugf(e, "Failed to check the health of the Playwright server at %s", node.endpoint);
+                health(node.endpoint, false);
+            }
+        }
+    }
+
+    /**
+     * The HTTP form of a websocket endpoint, {@code ws://host:3000/} being probed at {@code http://host:3000/}.
+     *
+     * @throws IllegalArgumentException if the endpoint is not an absolute URI with a host
+     */
+    static URI httpUri(String endpoint) {
+        final URI uri = URI.create(endpoint);
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            throw new IllegalArgumentException(endpoint + " is not an absolute URI with a host, such as ws://host:3000/");
+        }
+        final String scheme = "wss".equalsIgnoreCase(uri.getScheme()) ? "https"
+                : "ws".equalsIgnoreCase(uri.getScheme()) ? "http" : uri.getScheme();
+        return URI.create(scheme + endpoint.substring(uri.getScheme().length()));
+    }
+
+    /**
+     * The balancing settings, set in {@code quarkus.playwright.balancer.*} at runtime.
+     *
+     * @param weights the relative weights of the endpoints in order, all 1 when empty
+     */
+    record Settings(List<Integer> weights, Duration healthCheckInterval, int connectAttempts, Duration connectBackoff) {
+
+        static Settings of(PlaywrightRuntimeConfig.BalancerConfig config) {
+            return new Settings(config.weights().orElse(List.of()), config.healthCheckInterval(),
+                    config.connectAttempts(), config.connectBackoff());
+        }
+    }
+
+    private record Key(List<String> endpoints, Settings settings) {
+    }
+
+    private static final class Node {
+
+        private final String endpoint;
+        private final int weight;
+        private int open;
+        private boolean healthy = true;
+
+        private Node(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+    }
+}
@@ -25,6 +25,10 @@ import java.lang.annotation.Target;
  * </p>
  *
  * <p>
+ * Fields of type {@link com.microsoft.playwright.Page Page} get a new page, in a new context, before each test method.
+ * </p>
+ *
+ * <p>
  * The annotation should be retained at runtime, as it is processed by the
  * Quarkus framework to inject the necessary Playwright instances.
  * </p>
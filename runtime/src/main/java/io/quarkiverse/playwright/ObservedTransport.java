@@ -0,0 +1,167 @@
+package io.quarkiverse.playwright;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.impl.Transport;
+
+/**
+ * The transport of every Playwright connection, notifying the {@link PlaywrightObserver observers} of the messages
+ * exchanged with the driver.
+ * <p>
+ * The build wraps the transport given to {@code com.microsoft.playwright.impl.Connection} with
+ * {@link #decorate(Transport)}. Playwright sends and polls the messages of a connection on the thread making the
+ * calls, so the observers are notified of a call on that thread. Without observers, a message costs a volatile read.
+ * </p>
+ */
+public final class ObservedTransport implements Transport {
+
+    private static final AtomicLong CONNECTIONS = new AtomicLong();
+
+    private final Transport transport;
+    private final long connection = CONNECTIONS.incrementAndGet();
+    private final Map<Integer, PendingCall> pendingCalls = new ConcurrentHashMap<>();
+
+    private ObservedTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Called by the transformed {@code Connection} constructor.
+     *
+     * @param transport the transport of the connection
+     * @return the observed transport
+     */
+    public static Transport decorate(Transport transport) {
+        return transport instanceof ObservedTransport ? transport : new ObservedTransport(transport);
+    }
+
+    @Override
+    public void send(JsonObject message) {
+        final PlaywrightObserver[] observers = PlaywrightObservers.get();
+        if (observers.length == 0) {
+            transport.send(message);
+            return;
+        }
+        for (PlaywrightObserver observer : observers) {
+            try {
+                observer.messageSent(connection, message);
+            } catch (RuntimeException e) {
+                PlaywrightObservers.failed(observer, e);
+            }
+        }
+        if (!message.has("id")) {
+            transport.send(message);
+            return;
+        }
+        final PendingCall pending = new PendingCall(new PlaywrightCall(connection, message), observers);
+        pending.start();
+        pendingCalls.put(pending.call.id(), pending);
+        try {
+            transport.send(message);
+        } catch (RuntimeException e) {
+            pendingCalls.remove(pending.call.id());
+            pending.end(null, String.valueOf(e.getMessage()));
+            throw e;
+        }
+    }
+
+    @Override
+    public JsonObject poll(Duration timeout) {
+        final JsonObject message = transport.poll(timeout);
+        if (message == null) {
+            return null;
+        }
+        final PlaywrightObserver[] observers = PlaywrightObservers.get();
+        for (PlaywrightObserver observer : observers) {
+            try {
+                observer.messageReceived(connection, message);
+            } catch (RuntimeException e) {
+                PlaywrightObservers.failed(observer, e);
+            }
+        }
+        final JsonElement id = message.get("id");
+        if (id != null) {
+            final PendingCall pending = pendingCalls.isEmpty() ? null : pendingCalls.remove(id.getAsInt());
+            if (pending != null) {
+                pending.end(message, null);
+            }
+            return message;
+        }
+        if (observers.length > 0 && message.has("method")) {
+            final JsonElement guid = message.get("guid");
+            final String method = message.get("method").getAsString();
+            final JsonObject params = PlaywrightCall.object(message, "params");
+            for (PlaywrightObserver observer : observers) {
+                try {
+                    observer.eventReceived(connection, guid == null ? "" : guid.getAsString(), method, params);
+                } catch (RuntimeException e) {
+                    PlaywrightObservers.failed(observer, e);
+                }
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            transport.close();
+        } finally {
+            final List<PendingCall> pending = new ArrayList<>(pendingCalls.values());
+            pendingCalls.clear();
+            pending.forEach(call -> call.end(null, "Playwright connection closed"));
+            for (PlaywrightObserver observer : PlaywrightObservers.get()) {
+                try {
+                    observer.connectionClosed(connection);
+                } catch (RuntimeException e) {
+                    PlaywrightObservers.failed(observer, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A call sent to the driver, with the observers notified of its start and their contexts.
+     */
+    private static final class PendingCall {
+
+        private final PlaywrightCall call;
+        private final PlaywrightObserver[] observers;
+        private final Object[] contexts;
+
+        private PendingCall(PlaywrightCall call, PlaywrightObserver[] observers) {
+            this.call = call;
+            this.observers = observers;
+            this.contexts = new Object[observers.length];
+        }
+
+        void start() {
+            for (int i = 0; i < observers.length; i++) {
+                try {
+                    contexts[i] = observers[i].callStarted(call);
+                } catch (RuntimeException e) {
+                    PlaywrightObservers.failed(observers[i], e);
+                }
+            }
+        }
+
+        void end(JsonObject response, String closedError) {
+            call.end(response, closedError);
+            for (int i = 0; i < observers.length; i++) {
+                try {
+                    observers[i].callEnded(call, contexts[i]);
+                } catch (RuntimeException e) {
+                    PlaywrightObservers.failed(observers[i], e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.quarkiverse.playwright;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A protocol call sent to the Playwright driver, as seen by the {@link PlaywrightObserver observers}.
+ * <p>
+ * The request parameters and the result are the protocol messages themselves, they must not be modified.
+ * </p>
+ */
+public final class PlaywrightCall {
+
+    private static final JsonObject EMPTY = new JsonObject();
+
+    private final long connection;
+    private final int id;
+    private final String guid;
+    private final String method;
+    private final String title;
+    private final boolean internal;
+    private final JsonObject params;
+    private final long startNanos;
+
+    private long durationNanos = -1;
+    private JsonObject result;
+    private String error;
+
+    PlaywrightCall(long connection, JsonObject message) {
+        this.connection = connection;
+        this.id = message.get("id").getAsInt();
+        this.guid = string(message, "guid");
+        this.method = string(message, "method");
+        final JsonObject metadata = object(message, "metadata");
+        this.title = string(metadata, "title");
+        final JsonElement internal = metadata.get("internal");
+        this.internal = internal != null && internal.getAsBoolean();
+        this.params = object(message, "params");
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Completes the call with the response of the driver, or with the given error when there is no response.
+     */
+    void end(JsonObject response, String closedError) {
+        durationNanos = System.nanoTime() - startNanos;
+        if (response == null) {
+            error = closedError;
+        } else if (response.has("error")) {
+            final JsonObject serialized = object(response, "error");
+            final JsonObject details = object(serialized, "error");
+            error = details.has("message") ? string(details, "message") : serialized.toString();
+        } else {
+            result = object(response, "result");
+        }
+    }
+
+    /**
+     * @return identifies the connection to the driver, hence the Playwright instance, making the call
+     */
+    public long connection() {
+        return connection;
+    }
+
+    /**
+     * @return the id of the call, unique on its connection
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * @return the object the call is made on, such as {@code frame@8f2a...}
+     */
+    public String guid() {
+        return guid;
+    }
+
+    /**
+     * @return the type of the object the call is made on, such as {@code Frame} or {@code BrowserContext}
+     */
+    public String type() {
+        return type(guid);
+    }
+
+    /**
+     * @return the protocol method, such as {@code goto} or {@code screenshot}
+     */
+    public String method() {
+        return method;
+    }
+
+    /**
+     * @return the title of the Playwright API step making the call, or {@code null} when the API does not report one
+     */
+    public String title() {
+        return title;
+    }
+
+    /**
+     * @return whether the call is made by Playwright while it carries out a titled API step, rather than by the
+     *         application
+     */
+    public boolean internal() {
+        return internal;
+    }
+
+    /**
+     * @return the parameters of the call
+     */
+    public JsonObject params() {
+        return params;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the call was sent
+     */
+    public long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return how long the call took, or {@code -1} while it is not completed
+     */
+    public long durationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the result of the call, empty when the call has none or failed
+     */
+    public JsonObject result() {
+        return result == null ? EMPTY : result;
+    }
+
+    /**
+     * @return the message of the error the call failed with, or {@code null}
+     */
+    public String error() {
+        return error;
+    }
+
+    /**
+     * @return whether the call failed
+     */
+    public boolean failed() {
+        return error != null;
+    }
+
+    @Override
+    public String toString() {
+        return "PlaywrightCall[" + guid + "." + method + "]";
+    }
+
+    /**
+     * @return the type of the object of the given guid, such as {@code BrowserContext} for
+     *         {@code browser-context@8f2a...}
+     */
+    static String type(String guid) {
+        final int end = guid == null ? -1 : guid.indexOf('@');
+        if (end <= 0) {
+            return "Playwright";
+        }
+        final StringBuilder type = new StringBuilder(end);
+        boolean upper = true;
+        for (int i = 0; i < end; i++) {
+            final char c = guid.charAt(i);
+            if (c == '-') {
+                upper = true;
+            } else {
+                type.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return type.toString();
+    }
+
+    private static String string(JsonObject object, String member) {
+        final JsonElement element = object.get(member);
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+
+    static JsonObject object(JsonObject object, String member) {
+        final JsonElement element = object.get(member);
+        return element != null && element.isJsonObject() ? element.getAsJsonObject() : EMPTY;
+    }
+}
@@ -0,0 +1,300 @@
+package io.quarkiverse.playwright;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * Runs Playwright work on dedicated owner threads, so any thread can use Playwright safely.
+ * <p>
+ * Playwright objects are not thread-safe, one thread at a time may use them, and the simplest way to ensure it is to
+ * use them from the thread that created them. The dispatcher starts {@code quarkus.playwright.dispatcher.threads}
+ * platform threads, each owning one {@link Playwright} instance and the browsers launched from it. Callers, including
+ * virtual threads and Vert.x workers, submit tasks that run on the least loaded owner thread and get the result as a
+ * {@link CompletionStage}:
+ *
+ * <pre>
+ * {@code
+ * @Inject
+ * PlaywrightDispatcher dispatcher;
+ *
+ * public CompletionStage<byte[]> render(String url) {
+ *     return dispatcher.withPage(page -> {
+ *         page.navigate(url);
+ *         return page.screenshot();
+ *     });
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Playwright objects handed to a task must not escape it. The returned stage is completed on the owner thread, so
+ * long-running continuations should use the {@code *Async} variants of {@link CompletionStage} to leave it. Every owner
+ * thread has a bounded queue of {@code quarkus.playwright.dispatcher.queue-size} tasks, tasks submitted when it is full
+ * fail with a {@link RejectedExecutionException}.
+ * </p>
+ */
+@ApplicationScoped
+public class PlaywrightDispatcher {
+
+    private static final Logger log = Logger.getLogger(PlaywrightDispatcher.class);
+
+    /**
+     * The owner running on the current thread, so tasks submitting other tasks run them inline instead of waiting on
+     * their own queue.
+     */
+    private static final ThreadLocal<Owner> CURRENT_OWNER = new ThreadLocal<>();
+
+    @Inject
+    PlaywrightRuntimeConfig config;
+
+    private final List<Owner> owners = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private BrowserContextSettings contextSettings;
+
+    @PostConstruct
+    void init() {
+        contextSettings = BrowserContextSettings.of(config.pool().context());
+        for (int i = 0; i < Math.max(1, config.dispatcher().threads()); i++) {
+            owners.add(new Owner(i, config.dispatcher().queueSize()));
+        }
+    }
+
+    /**
+     * Launches the configured {@code quarkus.playwright.pool.browsers} on every owner thread.
+     */
+    public void warmUp() {
+        final List<CompletableFuture<?>> started = new ArrayList<>();
+        for (Owner owner : owners) {
+            for (WithPlaywright.Browser type : config.pool().browsers()) {
+                started.add(submit(owner, type, Browser::version).toCompletableFuture());
+            }
+        }
+        CompletableFuture.allOf(started.toArray(CompletableFuture[]::new)).join();
+        log.infof("Playwright dispatcher warmed up with %d owner thread(s)", owners.size());
+    }
+
+    /**
+     * Runs a task with a browser of the first configured browser type.
+     *
+     * @param task the task, run on an owner thread
+     * @return the result of the task
+     */
+    public <T> CompletionStage<T> submit(Function<Browser, T> task) {
+        return submit(defaultType(), task);
+    }
+
+    /**
+     * Runs a task with a browser of the given type.
+     *
+     * @param type the browser type
+     * @param task the task, run on an owner thread
+     * @return the result of the task
+     */
+    public <T> CompletionStage<T> submit(WithPlaywright.Browser type, Function<Browser, T> task) {
+        final Owner current = CURRENT_OWNER.get();
+        return submit(current != null ? current : leastLoaded(), type, task);
+    }
+
+    /**
+     * Runs a task with a new page, in a new context created with the {@code quarkus.playwright.pool.context.*}
+     * settings on a browser of the first configured browser type. The context is closed when the task completes.
+     *
+     * @param task the task, run on an owner thread
+     * @return the result of the task
+     */
+    public <T> CompletionStage<T> withPage(Function<Page, T> task) {
+        return withPage(defaultType(), task);
+    }
+
+    /**
+     * Runs a task with a new page, in a new context created with the {@code quarkus.playwright.pool.context.*}
+     * settings on a browser of the given type. The context is closed when the task completes.
+     *
+     * @param type the browser type
+     * @param task the task, run on an owner thread
+     * @return the result of the task
+     */
+    public <T> CompletionStage<T> withPage(WithPlaywright.Browser type, Function<Page, T> task) {
+        return submit(type, browser -> {
+            try (BrowserContext context = newContext(browser)) {
+                return task.apply(context.newPage());
+            }
+        });
+    }
+
+    /**
+     * Creates a context with the {@code quarkus.playwright.pool.context.*} settings, must run on the owner thread of
+     * the browser.
+     */
+    BrowserContext newContext(Browser browser) {
+        final BrowserContext context = browser.newContext(contextSettings.applyTo(new Browser.NewContextOptions()));
+        contextSettings.applyTo(context);
+        return context;
+    }
+
+    WithPlaywright.Browser defaultType() {
+        return config.pool().browsers().isEmpty() ? WithPlaywright.Browser.CHROMIUM : config.pool().browsers().get(0);
+    }
+
+    <T> CompletionStage<T> submit(Owner owner, WithPlaywright.Browser type, Function<Browser, T> task) {
+        return execute(owner, () -> task.apply(owner.browser(type)));
+    }
+
+    /**
+     * Runs a task on the given owner thread, used for Playwright objects created on it.
+     */
+    <T> CompletionStage<T> execute(Owner owner, Supplier<T> task) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Runnable runnable = () -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        };
+        if (CURRENT_OWNER.get() == owner) {
+            runnable.run();
+            return result;
+        }
+        try {
+            owner.executor.execute(PlaywrightObservers.wrap(runnable));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Picks the owner with the fewest pending tasks, starting from a rotating index so ties are spread evenly.
+     */
+    Owner leastLoaded() {
+        final int start = Math.floorMod(next.getAndIncrement(), owners.size());
+        Owner selected = null;
+        int selectedLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < owners.size(); i++) {
+            final Owner owner = owners.get((start + i) % owners.size());
+            final int load = owner.executor.getQueue().size() + owner.executor.getActiveCount();
+            if (load < selectedLoad) {
+                selected = owner;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Closes the Playwright instance of every owner thread, on that thread once the tasks already submitted have run.
+     * An owner thread still running a task after the shutdown timeout is left with its Playwright instance open, which
+     * only its thread may close.
+     */
+    @PreDestroy
+    void close() {
+        for (Owner owner : owners) {
+            try {
+                owner.executor.execute(owner::close);
+            } catch (RejectedExecutionException e) {
+                // the queue is full, closed below once the owner thread terminated
+            }
+            owner.executor.shutdown();
+        }
+        for (Owner owner : owners) {
+            if (terminated(owner)) {
+                // the owner thread is done, closing from here cannot race with it, when its last task did not run
+                owner.close();
+            } else {
+                log.warnf("Playwright owner thread %d is still running a task, its Playwright instance is left open",
+                        owner.index);
+            }
+        }
+        owners.clear();
+    }
+
+    /**
+     * Waits for the owner thread to run its tasks, interrupting it after a timeout.
+     */
+    private static boolean terminated(Owner owner) {
+        try {
+            if (owner.executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                return true;
+            }
+            owner.executor.shutdownNow();
+            return owner.executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            owner.executor.shutdownNow();
+            return false;
+        }
+    }
+
+    final class Owner {
+
+        private final int index;
+        private final ThreadPoolExecutor executor;
+
+        /**
+         * Only accessed by the owner thread, or on shutdown once it terminated.
+         */
+        private Playwright playwright;
+        private final Map<WithPlaywright.Browser, Browser> browsers = new EnumMap<>(WithPlaywright.Browser.class);
+
+        private Owner(int index, int queueSize) {
+            this.index = index;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueSize)), runnable -> {
+                        final Thread thread = new Thread(() -> {
+                            CURRENT_OWNER.set(this);
+                            runnable.run();
+                        }, "playwright-dispatcher-" + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+
+        private Browser browser(WithPlaywright.Browser type) {
+            Browser browser = browsers.get(type);
+            if (browser == null || !browser.isConnected()) {
+                if (playwright == null) {
+                    playwright = Playwright.create();
+                }
+                browser = BrowserLauncher.start(playwright, type, config);
+                browsers.put(type, browser);
+            }
+            return browser;
+        }
+
+        private void close() {
+            if (playwright != null) {
+                try {
+                    playwright.close();
+                } catch (RuntimeException e) {
+                    log.debugf(e, "Failed to close the Playwright instance of owner thread %d", index);
+                }
+                playwright = null;
+                browsers.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.quarkiverse.playwright;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emits JDK Flight Recorder events for the Playwright operations of the application: browser launches, connections
+ * to Playwright servers, API calls and protocol messages.
+ * <p>
+ * The observer is only registered while a recording is running, so that the Playwright calls do not pay for it
+ * otherwise. The events are emitted on the thread making the Playwright call, and can be related to the GC pauses and
+ * thread states of the same recording. The protocol messages are only recorded when their event is enabled in the
+ * settings of the recording, since measuring them serializes every message again.
+ * </p>
+ */
+final class PlaywrightFlightRecorder implements PlaywrightObserver, FlightRecorderListener {
+
+    private static final String CATEGORY = "Playwright";
+
+    /**
+     * Guarded by {@code this}.
+     */
+    private boolean registered;
+
+    /**
+     * Registers the observer whenever a recording is running, until {@link #uninstall()}.
+     */
+    void install() {
+        FlightRecorder.addListener(this);
+        if (FlightRecorder.isInitialized()) {
+            recordingStateChanged(null);
+        }
+    }
+
+    void uninstall() {
+        FlightRecorder.removeListener(this);
+        synchronized (this) {
+            if (registered) {
+                PlaywrightObservers.unregister(this);
+                registered = false;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void recordingStateChanged(Recording changed) {
+        final boolean running = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .anyMatch(recording -> recording.getState() == RecordingState.RUNNING);
+        if (running && !registered) {
+            PlaywrightObservers.register(this);
+        } else if (!running && registered) {
+            PlaywrightObservers.unregister(this);
+        }
+        registered = running;
+    }
+
+    @Override
+    public Object callStarted(PlaywrightCall call) {
+        final Event event = switch (call.method()) {
+            case "launch", "launchPersistentContext" -> new LaunchEvent();
+            case "connect", "connectOverCDP" -> new ConnectEvent();
+            default -> call.internal() ? null : new ApiCallEvent();
+        };
+        if (event == null || !event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void callEnded(PlaywrightCall call, Object context) {
+        if (!(context instanceof Event event)) {
+            return;
+        }
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        if (event instanceof LaunchEvent launch) {
+            launch.channel = string(call.params(), "channel");
+            final JsonElement headless = call.params().get("headless");
+            launch.headless = headless == null || headless.getAsBoolean();
+            launch.error = call.error();
+        } else if (event instanceof ConnectEvent connect) {
+            final String endpoint = string(call.params(), "wsEndpoint");
+            connect.endpoint = endpoint != null ? endpoint : string(call.params(), "endpointURL");
+            connect.error = call.error();
+        } else if (event instanceof ApiCallEvent apiCall) {
+            apiCall.type = call.type();
+            apiCall.method = call.method();
+            apiCall.guid = call.guid();
+            apiCall.title = call.title();
+            apiCall.selector = string(call.params(), "selector");
+            apiCall.url = string(call.params(), "url");
+            apiCall.error = call.error();
+        }
+        event.commit();
+    }
+
+    @Override
+    public void messageSent(long connection, JsonObject message) {
+        message(connection, message, "sent");
+    }
+
+    @Override
+    public void messageReceived(long connection, JsonObject message) {
+        message(connection, message, "received");
+    }
+
+    private static void message(long connection, JsonObject message, String direction) {
+        final ProtocolMessageEvent event = new ProtocolMessageEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.direction = direction;
+        event.connection = connection;
+        final JsonElement id = message.get("id");
+        event.id = id == null ? 0 : id.getAsInt();
+        event.guid = string(message, "guid");
+        event.method = string(message, "method");
+        // serialized again, which is why the event is disabled by default
+        event.size = message.toString().getBytes(StandardCharsets.UTF_8).length;
+        event.commit();
+    }
+
+    private static String string(JsonObject object, String member) {
+        final JsonElement element = object.get(member);
+        return element == null || !element.isJsonPrimitive() ? null : element.getAsString();
+    }
+
+    @Name("io.quarkiverse.playwright.PlaywrightLaunch")
+    @Label("Playwright Launch")
+    @Category(CATEGORY)
+    @Description("Launch of a browser by the Playwright driver")
+    static final class LaunchEvent extends Event {
+
+        @Label("Channel")
+        String channel;
+
+        @Label("Headless")
+        boolean headless;
+
+        @Label("Error")
+        String error;
+    }
+
+    @Name("io.quarkiverse.playwright.PlaywrightConnect")
+    @Label("Playwright Connect")
+    @Category(CATEGORY)
+    @Description("Connection to a remote Playwright server or browser")
+    static final class ConnectEvent extends Event {
+
+        @Label("Endpoint")
+        String endpoint;
+
+        @Label("Error")
+        String error;
+    }
+
+    @Name("io.quarkiverse.playwright.PlaywrightApiCall")
+    @Label("Playwright API Call")
+    @Category(CATEGORY)
+    @Description("Playwright API call made by the application, from its request to the response of the driver")
+    static final class ApiCallEvent extends Event {
+
+        @Label("Type")
+        String type;
+
+        @Label("Method")
+        String method;
+
+        @Label("Object")
+        String guid;
+
+        @Label("Title")
+        String title;
+
+        @Label("Selector")
+        String selector;
+
+        @Label("URL")
+        String url;
+
+        @Label("Error")
+        String error;
+    }
+
+    @Name("io.quarkiverse.playwright.PlaywrightProtocolMessage")
+    @Label("Playwright Protocol Message")
+    @Category(CATEGORY)
+    @Description("Message exchanged with the Playwright driver")
+    @StackTrace(false)
+    @Enabled(false)
+    static final class ProtocolMessageEvent extends Event {
+
+        @Label("Direction")
+        String direction;
+
+        @Label("Connection")
+        long connection;
+
+        @Label("Id")
+        int id;
+
+        @Label("Object")
+        String guid;
+
+        @Label("Method")
+        String method;
+
+        @Label("Size")
+        @DataAmount
+        int size;
+    }
+}
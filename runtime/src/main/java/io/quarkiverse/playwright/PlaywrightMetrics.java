@@ -0,0 +1,158 @@
+package io.quarkiverse.playwright;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Publishes the Playwright metrics through the {@link MetricsFactory} of the metrics extension of the application:
+ * <ul>
+ * <li>{@code playwright.operations}, timers of the protocol calls launching and connecting browsers, creating
+ * contexts and pages, navigating and taking screenshots and PDFs, tagged with the {@code operation} and its
+ * {@code outcome}</li>
+ * <li>{@code playwright.browsers.open}, {@code playwright.contexts.open} and {@code playwright.pages.open}, gauges of
+ * the objects currently open in the drivers</li>
+ * <li>{@code playwright.pool.lease.wait}, timers of the wait for a browser of the {@link BrowserPool}, tagged with the
+ * {@code browser} type and the {@code outcome}</li>
+ * </ul>
+ */
+final class PlaywrightMetrics implements PlaywrightObserver {
+
+    /**
+     * The operations timed, by protocol method.
+     */
+    private static final Map<String, String> OPERATIONS = Map.of(
+            "launch", "launch",
+            "launchPersistentContext", "launch",
+            "connect", "connect",
+            "connectOverCDP", "connect",
+            "newContext", "newContext",
+            "newPage", "newPage",
+            "goto", "navigate",
+            "screenshot", "screenshot",
+            "pdf", "pdf");
+
+    /**
+     * The objects counted, by protocol type.
+     */
+    private static final Map<String, String> OBJECTS = Map.of(
+            "Browser", "browsers",
+            "BrowserContext", "contexts",
+            "Page", "pages");
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String TIMEOUT = "timeout";
+
+    private final Map<String, MetricsFactory.TimeRecorder> operations = new HashMap<>();
+    private final Map<String, MetricsFactory.TimeRecorder> leaseWaits = new HashMap<>();
+    private final Map<String, AtomicLong> open = new HashMap<>();
+
+    /**
+     * The counted objects open on every connection, by guid.
+     */
+    private final Map<Long, Map<String, OpenObject>> connections = new ConcurrentHashMap<>();
+
+    PlaywrightMetrics(MetricsFactory metrics) {
+        for (String operation : OPERATIONS.values()) {
+            for (String outcome : List.of(SUCCESS, FAILURE)) {
+                operations.put(operation + outcome, metrics.builder("playwright.operations")
+                        .description("Playwright operations")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .buildTimer());
+            }
+        }
+        for (WithPlaywright.Browser type : WithPlaywright.Browser.values()) {
+            for (String outcome : List.of(SUCCESS, TIMEOUT)) {
+                leaseWaits.put(type + outcome, metrics.builder("playwright.pool.lease.wait")
+                        .description("Wait for a browser of the Playwright browser pool")
+                        .tag("browser", type.name().toLowerCase())
+                        .tag("outcome", outcome)
+                        .buildTimer());
+            }
+        }
+        for (String objects : OBJECTS.values()) {
+            final AtomicLong count = new AtomicLong();
+            open.put(objects, count);
+            metrics.builder("playwright." + objects + ".open")
+                    .description("Playwright " + objects + " currently open")
+                    .buildGauge(count::get);
+        }
+    }
+
+    @Override
+    public void callEnded(PlaywrightCall call, Object context) {
+        final String operation = OPERATIONS.get(call.method());
+        if (operation != null) {
+            operations.get(operation + (call.failed() ? FAILURE : SUCCESS)).update(call.durationNanos(),
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void eventReceived(long connection, String guid, String method, JsonObject params) {
+        switch (method) {
+            case "__create__" -> {
+                final JsonElement type = params.get("type");
+                final String objects = type == null ? null : OBJECTS.get(type.getAsString());
+                if (objects != null) {
+                    open.get(objects).incrementAndGet();
+                    connections.computeIfAbsent(connection, c -> new ConcurrentHashMap<>())
+                            .put(params.get("guid").getAsString(), new OpenObject(objects, guid));
+                }
+            }
+            // pages, contexts and browsers send a close event when closed, the driver may dispose them later
+            case "close", "__dispose__" -> {
+                final Map<String, OpenObject> objects = connections.get(connection);
+                if (objects != null) {
+                    closed(objects, guid);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Counts the object as closed, with the objects created in it, such as the pages of a context.
+     */
+    private void closed(Map<String, OpenObject> objects, String guid) {
+        final OpenObject object = objects.remove(guid);
+        if (object != null) {
+            open.get(object.objects).decrementAndGet();
+        }
+        objects.entrySet().stream()
+                .filter(entry -> entry.getValue().parent.equals(guid))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(child -> closed(objects, child));
+    }
+
+    @Override
+    public void connectionClosed(long connection) {
+        final Map<String, OpenObject> objects = connections.remove(connection);
+        if (objects != null) {
+            objects.values().forEach(object -> open.get(object.objects).decrementAndGet());
+        }
+    }
+
+    @Override
+    public void leaseWaited(WithPlaywright.Browser type, long waitNanos, boolean acquired) {
+        leaseWaits.get(type + (acquired ? SUCCESS : TIMEOUT)).update(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * A counted object and the object it was created in.
+     */
+    private record OpenObject(String objects, String parent) {
+    }
+}
@@ -0,0 +1,98 @@
+package io.quarkiverse.playwright;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Observes the calls made by the application through Playwright, and the events sent back by the driver.
+ * <p>
+ * Every Playwright API call is one or more protocol calls, such as {@code goto} on a frame for {@code page.navigate},
+ * which are sent to the driver and answered by it. The extension notifies the observers of every protocol call, on the
+ * thread making the call, and of every event, on the thread waiting for the driver. CDI beans implementing this
+ * interface are registered when the application starts, for instance to log the {@code goto} calls taking longer than
+ * expected from {@link #callEnded(PlaywrightCall, Object)}.
+ * </p>
+ * <p>
+ * Observers must be thread-safe and return quickly, the calls of a Playwright instance wait for them. Their failures
+ * are logged and ignored.
+ * </p>
+ */
+public interface PlaywrightObserver {
+
+    /**
+     * Notified before a call is sent to the driver.
+     *
+     * @param call the call, not completed yet
+     * @return a context handed back to {@link #callEnded(PlaywrightCall, Object)} for this call, or {@code null}
+     */
+    default Object callStarted(PlaywrightCall call) {
+        return null;
+    }
+
+    /**
+     * Notified when the driver answered a call, or when the connection closed before it did.
+     *
+     * @param call the completed call
+     * @param context the context returned by {@link #callStarted(PlaywrightCall)} for this call
+     */
+    default void callEnded(PlaywrightCall call, Object context) {
+    }
+
+    /**
+     * Notified of an event sent by the driver, such as {@code __create__} when the driver creates a Playwright object,
+     * {@code __dispose__} when it disposes one, or the {@code close} event of a page.
+     *
+     * @param connection the {@link PlaywrightCall#connection() connection} receiving the event
+     * @param guid the object the event is sent to
+     * @param method the event
+     * @param params the parameters of the event, empty when there are none
+     */
+    default void eventReceived(long connection, String guid, String method, JsonObject params) {
+    }
+
+    /**
+     * Notified of every message sent to the driver, calls included.
+     *
+     * @param connection the connection sending the message
+     * @param message the protocol message
+     */
+    default void messageSent(long connection, JsonObject message) {
+    }
+
+    /**
+     * Notified of every message received from the driver, responses and events included.
+     *
+     * @param connection the connection receiving the message
+     * @param message the protocol message
+     */
+    default void messageReceived(long connection, JsonObject message) {
+    }
+
+    /**
+     * Notified when a connection to the driver is closed, the objects created on it are gone.
+     *
+     * @param connection the closed connection
+     */
+    default void connectionClosed(long connection) {
+    }
+
+    /**
+     * Wraps a task handed from the current thread to another one, such as the task of a {@link PlaywrightDispatcher}
+     * run on an owner thread, so that the calls it makes can be related to the current thread.
+     *
+     * @param task the task
+     * @return the task to run instead
+     */
+    default Runnable wrap(Runnable task) {
+        return task;
+    }
+
+    /**
+     * Notified when the {@link BrowserPool} leased a browser, or gave up waiting for one.
+     *
+     * @param type the type of the browser
+     * @param waitNanos how long the caller waited for a browser to become available
+     * @param acquired whether a browser was leased, {@code false} when the lease timed out
+     */
+    default void leaseWaited(WithPlaywright.Browser type, long waitNanos, boolean acquired) {
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkiverse.playwright;
+
+import java.util.Arrays;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The {@link PlaywrightObserver observers} registered by the application.
+ * <p>
+ * The observers are read on every protocol message, they are kept in an array replaced on every change.
+ * </p>
+ */
+final class PlaywrightObservers {
+
+    private static final Logger log = Logger.getLogger(PlaywrightObservers.class);
+    private static final PlaywrightObserver[] NONE = new PlaywrightObserver[0];
+
+    private static volatile PlaywrightObserver[] observers = NONE;
+
+    private PlaywrightObservers() {
+    }
+
+    static PlaywrightObserver[] get() {
+        return observers;
+    }
+
+    static synchronized void register(PlaywrightObserver observer) {
+        final PlaywrightObserver[] registered = Arrays.copyOf(observers, observers.length + 1);
+        registered[observers.length] = observer;
+        observers = registered;
+    }
+
+    static synchronized void unregister(PlaywrightObserver observer) {
+        observers = Arrays.stream(observers).filter(registered -> registered != observer)
+                .toArray(PlaywrightObserver[]::new);
+    }
+
+    /**
+     * Notifies the observers of a lease of the {@link BrowserPool}.
+     */
+    static void leaseWaited(WithPlaywright.Browser type, long waitNanos, boolean acquired) {
+        for (PlaywrightObserver observer : observers) {
+            try {
+                observer.leaseWaited(type, waitNanos, acquired);
+            } catch (RuntimeException e) {
+                failed(observer, e);
+            }
+        }
+    }
+
+    /**
+     * Lets the observers wrap a task handed to another thread.
+     */
+    static Runnable wrap(Runnable task) {
+        Runnable wrapped = task;
+        for (PlaywrightObserver observer : observers) {
+            try {
+                wrapped = observer.wrap(wrapped);
+            } catch (RuntimeException e) {
+                failed(observer, e);
+            }
+        }
+        return wrapped;
+    }
+
+    static void failed(PlaywrightObserver observer, RuntimeException e) {
+        log.warnf(e, "Playwright observer %s failed", observer);
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkiverse.playwright;
+
+import java.util.function.Consumer;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * A recorder registering the {@link PlaywrightObserver observers} of the application and of the extension.
+ */
+@Recorder
+public class PlaywrightObserversRecorder {
+
+    /**
+     * Registers the {@link PlaywrightObserver} beans until the application stops.
+     */
+    public void registerObservers(ShutdownContext shutdown) {
+        for (InstanceHandle<PlaywrightObserver> handle : Arc.container().listAll(PlaywrightObserver.class)) {
+            register(handle.get(), shutdown);
+        }
+    }
+
+    /**
+     * Publishes the Playwright metrics once the metrics extension provides its {@link MetricsFactory}.
+     */
+    public Consumer<MetricsFactory> registerMetrics(ShutdownContext shutdown) {
+        return metrics -> register(new PlaywrightMetrics(metrics), shutdown);
+    }
+
+    /**
+     * Traces the Playwright API calls with the {@link OpenTelemetry} of the application until it stops.
+     */
+    public void registerTracing(ShutdownContext shutdown) {
+        register(new PlaywrightTracing(Arc.container().instance(OpenTelemetry.class).get()), shutdown);
+    }
+
+    /**
+     * Emits the Playwright JDK Flight Recorder events while recordings are running, when the JVM or native executable
+     * supports JFR.
+     */
+    public void registerFlightRecorder(ShutdownContext shutdown) {
+        if (!FlightRecorder.isAvailable()) {
+            return;
+        }
+        final PlaywrightFlightRecorder flightRecorder = new PlaywrightFlightRecorder();
+        flightRecorder.install();
+        shutdown.addShutdownTask(flightRecorder::uninstall);
+    }
+
+    private static void register(PlaywrightObserver observer, ShutdownContext shutdown) {
+        PlaywrightObservers.register(observer);
+        shutdown.addShutdownTask(() -> PlaywrightObservers.unregister(observer));
+    }
+}
@@ -1,16 +1,25 @@
 package io.quarkiverse.playwright;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.jboss.logging.Logger;
 
 import com.microsoft.playwright.impl.driver.jar.DriverJar;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.ImageMode;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 /**
@@ -24,6 +33,12 @@ public class PlaywrightRecorder {
 
     private static final Logger log = Logger.getLogger(PlaywrightRecorder.class);
 
+    private final RuntimeValue<PlaywrightRuntimeConfig> runtimeConfig;
+
+    public PlaywrightRecorder(RuntimeValue<PlaywrightRuntimeConfig> runtimeConfig) {
+        this.runtimeConfig = runtimeConfig;
+    }
+
     /**
      * Initializes the Playwright driver by obtaining its resource URI,
      * setting up a file system, and logging relevant information.
@@ -51,12 +66,88 @@ public class PlaywrightRecorder {
                 log.errorf("FileSystem Error NULL: %s", uri);
             }
 
-            // Log the directory where the driver is located
-            DriverJar jar = new DriverJar();
-            log.debugf("Playwright Driver Directory: %s", jar.driverDir());
+            // Log the driver implementation, instantiating it here would extract the driver
+            log.debugf("Playwright Driver Implementation: %s",
+                    System.getProperty(CachedDriver.DRIVER_IMPL_PROPERTY, DriverJar.class.getName()));
         } catch (URISyntaxException | IOException e) {
             // Wrap and throw any exceptions that occur during initialization
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Selects the {@link CachedDriver} for the Playwright instances created by the application, when the driver cache
+     * is enabled.
+     *
+     * @param packaged whether the build extracted the driver next to the packaged application
+     */
+    public void configureDriverCache(boolean packaged) {
+        final PlaywrightRuntimeConfig.DriverCacheConfig driverCache = runtimeConfig.getValue().driverCache();
+        if (!driverCache.enabled()) {
+            return;
+        }
+        driverCache.directory().ifPresent(directory -> {
+            if (System.getProperty(CachedDriver.CACHE_DIR_PROPERTY) == null) {
+                System.setProperty(CachedDriver.CACHE_DIR_PROPERTY, directory);
+            }
+        });
+        if (packaged && System.getProperty(CachedDriver.PACKAGED_DIR_PROPERTY) == null) {
+            applicationDirectory().map(directory -> directory.resolve(CachedDriver.PACKAGED_DIR_NAME))
+                    .filter(Files::isDirectory)
+                    .ifPresent(directory -> {
+                        log.debugf("Playwright Driver packaged in %s", directory);
+                        System.setProperty(CachedDriver.PACKAGED_DIR_PROPERTY, directory.toString());
+                    });
+        }
+        CachedDriver.enable();
+    }
+
+    /**
+     * The directory of the native executable, or of the runner jar, such as {@code quarkus-app} for fast-jar packaging.
+     */
+    private static Optional<Path> applicationDirectory() {
+        if (ImageMode.current() == ImageMode.NATIVE_RUN) {
+            return ProcessHandle.current().info().command().map(command -> Paths.get(command).toAbsolutePath().getParent());
+        }
+        final String classPath = System.getProperty("java.class.path", "");
+        final String runner = classPath.split(File.pathSeparator)[0];
+        if (!runner.endsWith(".jar")) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(Paths.get(runner).toAbsolutePath().getParent());
+    }
+
+    /**
+     * Launches the browsers of the {@link BrowserPool}, and creates the contexts of the {@link BrowserContextPool}, when
+     * the application starts.
+     *
+     * @param contextPool whether the application uses the {@link BrowserContextPool}, or only the {@link BrowserPool}
+     */
+    public void warmUpBrowserPool(boolean contextPool) {
+        if (!runtimeConfig.getValue().pool().warmUp()) {
+            return;
+        }
+        if (contextPool) {
+            Arc.container().instance(BrowserContextPool.class).get().warmUp();
+        } else {
+            Arc.container().instance(BrowserPool.class).get().warmUp();
+        }
+    }
+
+    /**
+     * Stops the health checks of the {@link EndpointBalancer endpoint balancers} when the application stops, since a
+     * restart in dev mode loads them again.
+     */
+    public void shutdownEndpointBalancers(ShutdownContext shutdown) {
+        shutdown.addShutdownTask(EndpointBalancer::shutdown);
+    }
+
+    /**
+     * Launches the browsers of every owner thread of the {@link PlaywrightDispatcher} when the application starts.
+     */
+    public void warmUpDispatcher() {
+        if (runtimeConfig.getValue().pool().warmUp()) {
+            Arc.container().instance(PlaywrightDispatcher.class).get().warmUp();
+        }
+    }
+}
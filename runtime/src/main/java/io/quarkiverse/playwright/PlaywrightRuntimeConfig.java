@@ -1,10 +1,15 @@
 package io.quarkiverse.playwright;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 @ConfigMapping(prefix = "quarkus.playwright")
@@ -15,4 +20,229 @@ public interface PlaywrightRuntimeConfig {
      * browser.
      */
     Optional<String> endpoint();
+
+    /**
+     * Playwright websocket endpoints of several servers, across which the browsers are spread instead of connecting to
+     * {@code endpoint}. Set by Dev Services with several {@code instances}, along with {@code endpoint} set to the first
+     * one.
+     */
+    Optional<List<String>> endpoints();
+
+    /**
+     * Configuration of the balancing of the browsers across the Playwright servers.
+     */
+    @ConfigDocSection
+    BalancerConfig balancer();
+
+    /**
+     * Configuration of the injectable {@link BrowserPool}.
+     */
+    @ConfigDocSection
+    BrowserPoolConfig pool();
+
+    /**
+     * Configuration of the injectable {@link PlaywrightDispatcher}.
+     */
+    @ConfigDocSection
+    DispatcherConfig dispatcher();
+
+    /**
+     * Configuration of the persistent cache of the extracted Playwright driver.
+     */
+    @ConfigDocSection
+    DriverCacheConfig driverCache();
+
+    @ConfigGroup
+    interface BrowserPoolConfig {
+
+        /**
+         * Browser types for which warm browsers are launched when the application starts. Browser types that are not
+         * listed here are still available, but their browsers are launched on first lease.
+         */
+        @WithDefault("chromium")
+        List<WithPlaywright.Browser> browsers();
+
+        /**
+         * Maximum number of browsers kept per browser type. Callers leasing a browser while all of them are in use wait
+         * up to {@code lease-timeout} for one to be returned.
+         */
+        @WithDefault("2")
+        int size();
+
+        /**
+         * Whether the pool launches {@code size} browsers for each of the configured {@code browsers} when the
+         * application starts. Only applies when the {@link BrowserPool} bean is used by the application.
+         */
+        @WithDefault("true")
+        boolean warmUp();
+
+        /**
+         * Maximum time to wait for a browser to become available.
+         */
+        @WithDefault("30s")
+        Duration leaseTimeout();
+
+        /**
+         * Runs pooled browsers in headless mode.
+         */
+        @WithDefault("true")
+        boolean headless();
+
+        /**
+         * Enables sandboxing for pooled Chromium-based browsers.
+         */
+        @WithDefault("false")
+        boolean chromiumSandbox();
+
+        /**
+         * Distribution channel of the pooled browsers, such as {@code chrome} or {@code msedge}.
+         */
+        Optional<String> channel();
+
+        /**
+         * Command-line arguments used when launching pooled browsers.
+         */
+        @WithDefault("--disable-gpu")
+        List<String> args();
+
+        /**
+         * Configuration of the injectable {@link BrowserContextPool}.
+         */
+        BrowserContextPoolConfig context();
+    }
+
+    @ConfigGroup
+    interface BrowserContextPoolConfig {
+
+        /**
+         * What happens to a context when its lease is returned. {@code reset} closes its pages and clears cookies,
+         * permissions, storage, cache and routes, then keeps the context when no state is left behind. {@code discard}
+         * always replaces the context with a fresh one, which is slower but also drops state that cannot be cleared,
+         * such as init scripts, exposed bindings and listeners registered on the context.
+         */
+        @WithDefault("reset")
+        ResetStrategy resetStrategy();
+
+        /**
+         * Emulates the network being offline.
+         */
+        @WithDefault("false")
+        boolean offline();
+
+        /**
+         * User locale, for example {@code en-GB} or {@code de-DE}.
+         */
+        Optional<String> locale();
+
+        /**
+         * Timezone, for example {@code Europe/Rome}.
+         */
+        Optional<String> timeZoneId();
+
+        /**
+         * User agent.
+         */
+        Optional<String> userAgent();
+
+        /**
+         * Viewport of the pages.
+         */
+        ViewportSizeConfig viewportSize();
+
+        /**
+         * Maximum time for navigation.
+         */
+        Optional<Duration> defaultNavigationTimeout();
+
+        /**
+         * Maximum time for all methods accepting a timeout.
+         */
+        Optional<Duration> defaultTimeout();
+
+        enum ResetStrategy {
+            RESET,
+            DISCARD
+        }
+    }
+
+    @ConfigGroup
+    interface ViewportSizeConfig {
+
+        /**
+         * Page width in pixels.
+         */
+        @WithDefault("1280")
+        int width();
+
+        /**
+         * Page height in pixels.
+         */
+        @WithDefault("720")
+        int height();
+    }
+
+    @ConfigGroup
+    interface DispatcherConfig {
+
+        /**
+         * Number of owner threads. Each owner thread owns one Playwright instance, and the browsers it launches with the
+         * {@code quarkus.playwright.pool.*} launch options.
+         */
+        @WithDefault("2")
+        int threads();
+
+        /**
+         * Maximum number of tasks waiting for each owner thread. Tasks submitted while the chosen owner thread has a
+         * full queue fail with a {@link java.util.concurrent.RejectedExecutionException}.
+         */
+        @WithDefault("256")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface BalancerConfig {
+
+        /**
+         * Relative weights of the {@code endpoints}, in the same order. An endpoint gets browsers in proportion to its
+         * weight. Defaults to the same weight for every endpoint.
+         */
+        Optional<List<Integer>> weights();
+
+        /**
+         * Interval between the health checks of the endpoints. An endpoint that failed a connection or a health check
+         * gets no browser until a health check succeeds again.
+         */
+        @WithDefault("10s")
+        Duration healthCheckInterval();
+
+        /**
+         * Maximum number of attempts to connect a browser, each on the next endpoint.
+         */
+        @WithDefault("3")
+        int connectAttempts();
+
+        /**
+         * Time to wait before the second attempt to connect a browser, doubled before every next attempt.
+         */
+        @WithDefault("500ms")
+        Duration connectBackoff();
+    }
+
+    @ConfigGroup
+    interface DriverCacheConfig {
+
+        /**
+         * Whether the bundled Playwright driver is extracted once into a persistent cache directory keyed by the driver
+         * version and the platform, instead of into a new temporary directory every time the application starts. Has no
+         * effect when the {@code playwright.driver.impl} or {@code playwright.cli.dir} system property is set.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Root directory of the driver cache. Defaults to {@code $XDG_CACHE_HOME/quarkus-playwright/driver}, or
+         * {@code ~/.cache/quarkus-playwright/driver}.
+         */
+        Optional<String> directory();
+    }
 }
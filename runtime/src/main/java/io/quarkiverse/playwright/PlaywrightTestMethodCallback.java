@@ -0,0 +1,22 @@
+package io.quarkiverse.playwright;
+
+import io.quarkus.test.junit.callback.QuarkusTestAfterEachCallback;
+import io.quarkus.test.junit.callback.QuarkusTestBeforeEachCallback;
+import io.quarkus.test.junit.callback.QuarkusTestMethodContext;
+
+/**
+ * Gives every test method of a test class injecting a {@link com.microsoft.playwright.Page Page} its own context and
+ * page, created from the browser already launched by {@link QuarkusPlaywrightManager} and closed after the test.
+ */
+public class PlaywrightTestMethodCallback implements QuarkusTestBeforeEachCallback, QuarkusTestAfterEachCallback {
+
+    @Override
+    public void beforeEach(QuarkusTestMethodContext context) {
+        QuarkusPlaywrightManager.openTestMethodContext(context.getTestInstance());
+    }
+
+    @Override
+    public void afterEach(QuarkusTestMethodContext context) {
+        QuarkusPlaywrightManager.closeTestMethodContext(context.getTestInstance());
+    }
+}
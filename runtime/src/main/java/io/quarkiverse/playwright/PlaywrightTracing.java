@@ -0,0 +1,67 @@
+package io.quarkiverse.playwright;
+
+import com.google.gson.JsonElement;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+/**
+ * Traces the Playwright API calls of the application with OpenTelemetry.
+ * <p>
+ * Every call made by the application becomes a client span, such as {@code Frame.goto} for {@code page.navigate},
+ * child of the span current on the thread making the call, usually the span of the request being served. The tasks
+ * of the {@link PlaywrightDispatcher} run in the context of the thread submitting them. The calls Playwright makes on
+ * its own while carrying out an API step are not traced.
+ * </p>
+ */
+final class PlaywrightTracing implements PlaywrightObserver {
+
+    private final Tracer tracer;
+
+    PlaywrightTracing(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer("io.quarkiverse.playwright");
+    }
+
+    @Override
+    public Object callStarted(PlaywrightCall call) {
+        if (call.internal()) {
+            return null;
+        }
+        final SpanBuilder span = tracer.spanBuilder(call.type() + "." + call.method())
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("playwright.method", call.method())
+                .setAttribute("playwright.guid", call.guid());
+        if (call.title() != null) {
+            span.setAttribute("playwright.title", call.title());
+        }
+        final JsonElement selector = call.params().get("selector");
+        if (selector != null && selector.isJsonPrimitive()) {
+            span.setAttribute("playwright.selector", selector.getAsString());
+        }
+        final JsonElement url = call.params().get("url");
+        if (url != null && url.isJsonPrimitive()) {
+            span.setAttribute("url.full", url.getAsString());
+        }
+        return span.startSpan();
+    }
+
+    @Override
+    public void callEnded(PlaywrightCall call, Object context) {
+        if (context instanceof Span span) {
+            if (call.failed()) {
+                span.setStatus(StatusCode.ERROR, call.error());
+            }
+            span.end();
+        }
+    }
+
+    @Override
+    public Runnable wrap(Runnable task) {
+        return Context.current().wrap(task);
+    }
+}
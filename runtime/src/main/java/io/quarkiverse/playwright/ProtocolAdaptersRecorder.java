@@ -0,0 +1,23 @@
+package io.quarkiverse.playwright;
+
+import java.util.List;
+
+import io.quarkiverse.playwright.graal.ProtocolAccessor;
+import io.quarkiverse.playwright.graal.ProtocolTypeAdapters;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+
+/**
+ * A recorder installing the Gson adapters of the Playwright protocol classes generated for native executables.
+ * <p>
+ * It runs at static init, hence while the native image is built, and is kept apart from {@link PlaywrightRecorder}
+ * which needs the runtime configuration.
+ * </p>
+ */
+@Recorder
+public class ProtocolAdaptersRecorder {
+
+    public void install(List<RuntimeValue<ProtocolAccessor>> accessors) {
+        ProtocolTypeAdapters.install(accessors.stream().map(RuntimeValue::getValue).toList());
+    }
+}
@@ -1,9 +1,13 @@
 package io.quarkiverse.playwright;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Paths;
-import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArrayBuilder;
@@ -13,10 +17,10 @@ import jakarta.json.JsonObjectBuilder;
 import org.apache.commons.lang3.StringUtils;
 
 import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.Browser.NewContextOptions;
 import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.BrowserType.LaunchOptions;
+import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
 
 import io.quarkus.test.common.DevServicesContext;
@@ -71,7 +75,8 @@ public class QuarkusPlaywrightManager
     private Playwright playwright;
 
     /**
-     * The context in which the browser operates, encapsulating tabs, storage, etc.
+     * The context in which the browser operates, encapsulating tabs, storage, etc. Shared by the test methods of a class
+     * injecting a {@link BrowserContext} but no {@link Page}, and created when first injected.
      */
     private BrowserContext playwrightContext;
 
@@ -81,6 +86,45 @@ public class QuarkusPlaywrightManager
      */
     private Browser playwrightBrowser;
 
+    /**
+     * Whether the browser is shared with other test classes, in which case it is not closed on {@link #stop()}.
+     */
+    private boolean sharedBrowser;
+
+    /**
+     * The adapter created from {@link WithPlaywright#playwrightAdapter()}, also used for the per-method contexts.
+     */
+    private PlaywrightAdapter adapter;
+
+    /**
+     * Whether this manager selected the {@link CachedDriver}, released on {@link #stop()}.
+     */
+    private boolean driverSelected;
+
+    /**
+     * The environment the Playwright instances are created with.
+     */
+    private Map<String, String> env;
+
+    /**
+     * The contexts created for the running test methods, by test instance, when the test class injects a {@link Page}
+     * or runs in {@link WithPlaywright#parallel() parallel} mode.
+     */
+    private final Map<Object, TestMethodScope> testMethodScopes = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * The Playwright instances leased by the test methods running in parallel, {@code null} unless in
+     * {@link WithPlaywright#parallel() parallel} mode.
+     */
+    private ParallelSlots parallelSlots;
+
+    /**
+     * The managers of the test instances they injected, so the per-method callbacks can find them. Test resources
+     * are global, so every manager sees every test instance, only the one started for the test class registers it.
+     */
+    private static final Map<Object, QuarkusPlaywrightManager> MANAGERS = Collections
+            .synchronizedMap(new IdentityHashMap<>());
+
     /**
      * Initializes the Playwright manager with configuration from
      * {@link WithPlaywright}.
@@ -115,6 +159,13 @@ public class QuarkusPlaywrightManager
     @Override
     public Map<String, String> start() {
         final Map<String, String> env = new HashMap<>(System.getenv());
+        this.env = env;
+
+        // reuse the driver extracted by previous test runs
+        if (CachedDriver.enabled()) {
+            CachedDriver.select();
+            this.driverSelected = true;
+        }
 
         // Enable Playwright verbose logging if requested
         if (!env.containsKey("DEBUG") && this.options.verbose()) {
@@ -125,41 +176,84 @@ public class QuarkusPlaywrightManager
             env.put("PWDEBUG", "1");
         }
 
-        PlaywrightAdapter adapter;
+        final PlaywrightAdapter adapter;
         try {
             adapter = this.options.playwrightAdapter().getDeclaredConstructor().newInstance();
+            this.adapter = adapter;
         } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
             throw new IllegalStateException("Adapter class cannot be created", e);
         }
 
-        // Create Playwright instance with the specified environment variables
-        this.playwright = createPlaywright(
-                adapter.adaptCreateOptions(
-                        new Playwright.CreateOptions().setEnv(env)));
-
-        // register testId attribute default to "data-testid"
-        this.playwright.selectors().setTestIdAttribute(this.options.testId());
+        if (this.options.parallel()) {
+            // every running test method leases its own Playwright instance and browser
+            final int parallelism = this.options.parallelism() > 0 ? this.options.parallelism()
+                    : Runtime.getRuntime().availableProcessors();
+            this.parallelSlots = new ParallelSlots(parallelism);
+            return Collections.emptyMap();
+        }
 
-        // register any selectors
-        for (PlaywrightSelector selector : this.options.selectors()) {
-            this.playwright.selectors().register(selector.name(), selector.script());
+        if (this.options.reuseBrowser()) {
+            // the same way PlaywrightProcessor reuses an unchanged Dev Service, reuse the browser launched for
+            // another test class with the same options
+            final List<String> endpoints = devServicesEndpoints();
+            final SharedBrowsers.Entry shared = SharedBrowsers.acquire(
+                    SharedBrowsers.Key.of(this.options,
+                            endpoints.size() > 1 ? String.join(",", endpoints) : resolveEndpoint()),
+                    this::launch);
+            this.playwright = shared.playwright();
+            this.playwrightBrowser = shared.browser();
+            this.sharedBrowser = true;
+        } else {
+            final SharedBrowsers.Entry launched = launch();
+            this.playwright = launched.playwright();
+            this.playwrightBrowser = launched.browser();
         }
 
-        this.playwrightBrowser = startBrowser(adapter, env);
+        return Collections.emptyMap();
+    }
 
+    /**
+     * Creates a context on the browser, configured with the {@link WithPlaywright} options.
+     */
+    private BrowserContext newContext(Browser browser) {
         // Configure the context, setting the video directory if specified
         final Browser.NewContextOptions contextOptions = new Browser.NewContextOptions();
         if (StringUtils.isNotBlank(this.options.recordVideoDir())) {
             contextOptions.setRecordVideoDir(Paths.get(this.options.recordVideoDir()));
         }
 
-        applyBrowserContextConfig(contextOptions, this.options.browserContext());
+        final BrowserContextSettings contextSettings = BrowserContextSettings.of(this.options.browserContext());
+        contextSettings.applyTo(contextOptions);
 
-        this.playwrightContext = playwrightBrowser.newContext(adapter.adaptNewContextOptions(contextOptions));
+        final BrowserContext context = browser.newContext(adapter.adaptNewContextOptions(contextOptions));
 
-        applyConfig();
+        contextSettings.applyTo(context);
+        return context;
+    }
 
-        return Collections.emptyMap();
+    /**
+     * Creates the Playwright instance and starts the browser.
+     */
+    private SharedBrowsers.Entry launch() {
+        // Create Playwright instance with the specified environment variables
+        final Playwright playwright = createPlaywright(
+                adapter.adaptCreateOptions(
+                        new Playwright.CreateOptions().setEnv(env)));
+
+        try {
+            // register testId attribute default to "data-testid"
+            playwright.selectors().setTestIdAttribute(this.options.testId());
+
+            // register any selectors
+            for (PlaywrightSelector selector : this.options.selectors()) {
+                playwright.selectors().register(selector.name(), selector.script());
+            }
+
+            return new SharedBrowsers.Entry(playwright, startBrowser(playwright));
+        } catch (RuntimeException e) {
+            playwright.close();
+            throw e;
+        }
     }
 
     @Override
@@ -167,6 +261,11 @@ public class QuarkusPlaywrightManager
         this.devServicesContext = context;
     }
 
+    /**
+     * The endpoint of the Playwright server, or an empty string to launch a local browser. When Dev Services started
+     * several Playwright servers, the browsers are spread across all of them instead. The servers of Dev Services may
+     * still be starting, the browsers wait for them to be ready before connecting.
+     */
     protected String resolveEndpoint() {
         if (this.devServicesContext != null) {
             return this.devServicesContext.devServicesProperties().getOrDefault("quarkus.playwright.endpoint", "");
@@ -175,20 +274,36 @@ public class QuarkusPlaywrightManager
         return "";
     }
 
+    /**
+     * The endpoints of all the Playwright servers started by Dev Services.
+     */
+    private List<String> devServicesEndpoints() {
+        if (this.devServicesContext == null) {
+            return List.of();
+        }
+        final String endpoints = this.devServicesContext.devServicesProperties().get("quarkus.playwright.endpoints");
+        if (StringUtils.isBlank(endpoints)) {
+            return List.of();
+        }
+        return Arrays.stream(endpoints.split(",")).map(String::trim).filter(StringUtils::isNotEmpty).toList();
+    }
+
     protected Playwright createPlaywright(Playwright.CreateOptions createOptions) {
         return Playwright.create(createOptions);
     }
 
-    private Browser startBrowser(PlaywrightAdapter adapter, Map<String, String> env) {
+    private Browser startBrowser(Playwright playwright) {
         final BrowserType browserType = browser(playwright, this.options.browser());
-        final String endpoint = resolveEndpoint();
+        final List<String> devServices = devServicesEndpoints();
+        final List<String> endpoints = devServices.size() > 1 ? devServices
+                : Stream.of(resolveEndpoint()).filter(StringUtils::isNotBlank).toList();
 
-        if (StringUtils.isNotBlank(endpoint)) {
+        if (!endpoints.isEmpty()) {
             final BrowserType.ConnectOptions connectOptions = adapter.adaptConnectOptions(
                     new BrowserType.ConnectOptions()
                             .setSlowMo(this.options.slowMo())
                             .setHeaders(remoteLaunchOptionsHeaders()));
-            return browserType.connect(endpoint, connectOptions);
+            return EndpointBalancer.of(endpoints, EndpointBalancer.DEFAULTS).connect(browserType, connectOptions);
         }
 
         // No endpoint configured, so launch a local browser process.
@@ -229,38 +344,6 @@ public class QuarkusPlaywrightManager
         return headers;
     }
 
-    private static void applyBrowserContextConfig(NewContextOptions contextOptions, BrowserContextConfig config) {
-        contextOptions.setOffline(config.offline());
-
-        if (StringUtils.isNotBlank(config.locale())) {
-            contextOptions.setLocale(config.locale());
-        }
-
-        if (StringUtils.isNotBlank(config.timeZoneId())) {
-            contextOptions.setTimezoneId(config.timeZoneId());
-        }
-
-        contextOptions.setViewportSize(config.viewportSize().width(), config.viewportSize().height());
-
-        if (StringUtils.isNotBlank(config.userAgent())) {
-            contextOptions.setUserAgent(config.userAgent());
-        }
-    }
-
-    private void applyConfig() {
-        var browserContextConfig = this.options.browserContext();
-
-        if (StringUtils.isNotBlank(browserContextConfig.defaultNavigationTimeout())) {
-            this.playwrightContext
-                    .setDefaultNavigationTimeout(
-                            Duration.parse(browserContextConfig.defaultNavigationTimeout()).toMillis());
-        }
-
-        if (StringUtils.isNotBlank(browserContextConfig.defaultTimeout())) {
-            this.playwrightContext.setDefaultTimeout(Duration.parse(browserContextConfig.defaultTimeout()).toMillis());
-        }
-    }
-
     /**
      * Helper method to retrieve the correct {@link BrowserType} based on the
      * specified browser.
@@ -283,40 +366,239 @@ public class QuarkusPlaywrightManager
      */
     @Override
     public void stop() {
-        if (this.playwrightContext != null) {
-            this.playwrightContext.close(); // Closes the browser context
-            this.playwrightContext = null;
+        MANAGERS.values().removeIf(manager -> manager == this);
+        List.copyOf(testMethodScopes.keySet()).forEach(this::closeTestMethodScope);
+        if (this.parallelSlots != null) {
+            this.parallelSlots.close();
+            this.parallelSlots = null;
+        }
+        synchronized (this) {
+            if (this.playwrightContext != null) {
+                this.playwrightContext.close(); // Closes the browser context
+                this.playwrightContext = null;
+            }
         }
         if (playwright != null) {
-            playwright.close(); // Closes the Playwright instance
+            if (!sharedBrowser) {
+                playwright.close(); // Closes the Playwright instance
+            }
             playwright = null;
+            playwrightBrowser = null;
+        }
+        if (driverSelected) {
+            CachedDriver.release();
+            driverSelected = false;
         }
     }
 
     /**
-     * Injects Playwright resources into fields annotated with
-     * {@code @InjectPlaywright} in test classes.
+     * Injects Playwright resources into the fields annotated with {@code @InjectPlaywright} of the test instance, and
+     * remembers it, so {@link PlaywrightTestMethodCallback} can create the per-method context and page of test classes
+     * injecting a {@link Page}.
      * <p>
-     * This method supports injection of {@link BrowserContext}, {@link Browser},
-     * and {@link Playwright}
-     * into appropriately annotated fields.
+     * This method supports injection of {@link BrowserContext}, {@link Browser}, and {@link Playwright}. {@link Page}
+     * fields, and the {@link BrowserContext} fields of the same test class, are injected before each test method
+     * instead, with a context and page closed after the test. Test resources are global, so the instances of test
+     * classes annotated with other {@link WithPlaywright} options are left to their own manager.
      * </p>
      *
-     * @param testInjector the test injector responsible for dependency injection
+     * @param testInstance the test instance
      */
     @Override
-    public void inject(TestInjector testInjector) {
-        // Injects BrowserContextConfig if @InjectPlaywright is present on a matching
-        // field
-        testInjector.injectIntoFields(playwrightContext,
-                new TestInjector.AnnotatedAndMatchesType(InjectPlaywright.class, BrowserContext.class));
-
-        // Injects Playwright if @InjectPlaywright is present on a matching field
-        testInjector.injectIntoFields(playwright,
-                new TestInjector.AnnotatedAndMatchesType(InjectPlaywright.class, Playwright.class));
-
-        // Injects Browser if @InjectPlaywright is present on a matching field
-        testInjector.injectIntoFields(playwrightBrowser,
-                new TestInjector.AnnotatedAndMatchesType(InjectPlaywright.class, Browser.class));
+    public void inject(Object testInstance) {
+        if (!this.options.equals(withPlaywright(testInstance.getClass()))) {
+            return;
+        }
+        MANAGERS.put(testInstance, this);
+        if (this.options.parallel()) {
+            // every test method gets its own Playwright instance, injected by PlaywrightTestMethodCallback
+            return;
+        }
+
+        final Class<?> testClass = testInstance.getClass();
+        final List<Field> contextFields = injectableFields(testClass, BrowserContext.class);
+        // the test classes injecting a Page get a context per test method instead
+        if (!contextFields.isEmpty() && injectableFields(testClass, Page.class).isEmpty()) {
+            setFields(testInstance, contextFields, classContext());
+        }
+        setFields(testInstance, injectableFields(testClass, Playwright.class), playwright);
+        setFields(testInstance, injectableFields(testClass, Browser.class), playwrightBrowser);
+    }
+
+    /**
+     * The {@link WithPlaywright} options the test class runs with, which is not {@link java.lang.annotation.Inherited}:
+     * the annotation of the class, else of its closest superclass, else of the enclosing class of a {@code @Nested}
+     * test class, or {@code null} when none is annotated.
+     */
+    static WithPlaywright withPlaywright(Class<?> testClass) {
+        for (Class<?> enclosing = testClass; enclosing != null; enclosing = enclosing.getEnclosingClass()) {
+            for (Class<?> type = enclosing; type != null && type != Object.class; type = type.getSuperclass()) {
+                final WithPlaywright withPlaywright = type.getAnnotation(WithPlaywright.class);
+                if (withPlaywright != null) {
+                    return withPlaywright;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The context shared by the test methods of the class, created on first use.
+     */
+    private synchronized BrowserContext classContext() {
+        if (this.playwrightContext == null) {
+            this.playwrightContext = newContext(this.playwrightBrowser);
+        }
+        return this.playwrightContext;
+    }
+
+    /**
+     * Creates the context, and page, of a test method of a test class injecting a {@link Page} or running in
+     * {@link WithPlaywright#parallel() parallel} mode, and injects them into the {@code @InjectPlaywright} fields of the
+     * test instance. In parallel mode, the Playwright instance and browser leased for the test method are injected too.
+     */
+    static void openTestMethodContext(Object testInstance) {
+        final QuarkusPlaywrightManager manager = MANAGERS.get(testInstance);
+        if (manager != null) {
+            manager.openTestMethodScope(testInstance);
+        }
+    }
+
+    /**
+     * Closes the context and page of the test method that ran on the test instance.
+     */
+    static void closeTestMethodContext(Object testInstance) {
+        final QuarkusPlaywrightManager manager = MANAGERS.get(testInstance);
+        if (manager != null) {
+            manager.closeTestMethodScope(testInstance);
+        }
+    }
+
+    private void openTestMethodScope(Object testInstance) {
+        final List<Field> pageFields = injectableFields(testInstance.getClass(), Page.class);
+        if (pageFields.isEmpty() && parallelSlots == null) {
+            return;
+        }
+        closeTestMethodScope(testInstance);
+
+        final SharedBrowsers.Entry slot = parallelSlots != null ? parallelSlots.acquire() : null;
+        final BrowserContext context;
+        try {
+            context = newContext(slot != null ? slot.browser() : playwrightBrowser);
+        } catch (RuntimeException e) {
+            if (slot != null) {
+                parallelSlots.release(slot);
+            }
+            throw e;
+        }
+        // from here on, closing the scope also releases the slot
+        testMethodScopes.put(testInstance, new TestMethodScope(slot, context));
+        try {
+            if (!pageFields.isEmpty()) {
+                setFields(testInstance, pageFields, context.newPage());
+            }
+            setFields(testInstance, injectableFields(testInstance.getClass(), BrowserContext.class), context);
+            if (slot != null) {
+                setFields(testInstance, injectableFields(testInstance.getClass(), Browser.class), slot.browser());
+                setFields(testInstance, injectableFields(testInstance.getClass(), Playwright.class), slot.playwright());
+            }
+        } catch (RuntimeException e) {
+            closeTestMethodScope(testInstance);
+            throw e;
+        }
+    }
+
+    private void closeTestMethodScope(Object testInstance) {
+        final TestMethodScope scope = testMethodScopes.remove(testInstance);
+        if (scope == null) {
+            return;
+        }
+        try {
+            scope.context().close();
+        } finally {
+            if (scope.slot() != null && parallelSlots != null) {
+                parallelSlots.release(scope.slot());
+            }
+        }
+    }
+
+    private static List<Field> injectableFields(Class<?> testClass, Class<?> type) {
+        final List<Field> fields = new ArrayList<>();
+        for (Class<?> c = testClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(InjectPlaywright.class) && field.getType().isAssignableFrom(type)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static void setFields(Object testInstance, List<Field> fields, Object value) {
+        for (Field field : fields) {
+            try {
+                field.setAccessible(true);
+                field.set(testInstance, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to inject " + field, e);
+            }
+        }
+    }
+
+    /**
+     * The context of a running test method, and the slot it leased in parallel mode.
+     */
+    private record TestMethodScope(SharedBrowsers.Entry slot, BrowserContext context) {
+    }
+
+    /**
+     * Playwright instances and browsers for the test methods running in parallel. Each one is used by a single test
+     * method at a time, and at most {@code parallelism} of them are launched, further test methods wait for one to be
+     * released.
+     */
+    private final class ParallelSlots {
+
+        private final Semaphore permits;
+        private final Deque<SharedBrowsers.Entry> idle = new ConcurrentLinkedDeque<>();
+        private final Set<SharedBrowsers.Entry> all = ConcurrentHashMap.newKeySet();
+
+        private ParallelSlots(int parallelism) {
+            this.permits = new Semaphore(parallelism, true);
+        }
+
+        SharedBrowsers.Entry acquire() {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a Playwright instance", e);
+            }
+            try {
+                SharedBrowsers.Entry slot;
+                while ((slot = idle.pollFirst()) != null && !slot.browser().isConnected()) {
+                    all.remove(slot);
+                    slot.close();
+                }
+                if (slot == null) {
+                    slot = launch();
+                    all.add(slot);
+                }
+                return slot;
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        void release(SharedBrowsers.Entry slot) {
+            idle.offerFirst(slot);
+            permits.release();
+        }
+
+        void close() {
+            all.forEach(SharedBrowsers.Entry::close);
+            all.clear();
+            idle.clear();
+        }
     }
 }
@@ -0,0 +1,174 @@
+package io.quarkiverse.playwright;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.microsoft.playwright.ConsoleMessage;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * A {@link Page} opened by {@link ReactivePlaywright#newPage()}, whose operations run on the dispatcher owner thread
+ * that created it.
+ * <p>
+ * The operations are lazy, they run when the returned {@link Uni} is subscribed to. They only emit plain values, so no
+ * Playwright object escapes the owner thread. {@link #execute(Function)} gives access to the rest of the {@link Page}
+ * API.
+ * </p>
+ */
+public class ReactivePage {
+
+    private final PlaywrightDispatcher dispatcher;
+    private final PlaywrightDispatcher.Owner owner;
+    private final Page page;
+
+    ReactivePage(PlaywrightDispatcher dispatcher, PlaywrightDispatcher.Owner owner, Page page) {
+        this.dispatcher = dispatcher;
+        this.owner = owner;
+        this.page = page;
+    }
+
+    /**
+     * Runs a task with the page on its owner thread. The page must not escape the task.
+     *
+     * @param task the task
+     * @return a {@link Uni} emitting the result of the task
+     */
+    public <T> Uni<T> execute(Function<Page, T> task) {
+        return ReactivePlaywright
+                .offload(Uni.createFrom().completionStage(() -> dispatcher.execute(owner, () -> task.apply(page))));
+    }
+
+    /**
+     * @param url the URL to navigate to
+     * @return a {@link Uni} emitting the HTTP status of the main resource, or {@code null} when there is none
+     * @see Page#navigate(String)
+     */
+    public Uni<Integer> navigate(String url) {
+        return execute(p -> {
+            final Response response = p.navigate(url);
+            return response == null ? null : response.status();
+        });
+    }
+
+    /**
+     * @param html the HTML markup to assign to the page
+     * @return a {@link Uni} completing once the content is set
+     * @see Page#setContent(String)
+     */
+    public Uni<Void> setContent(String html) {
+        return execute(p -> {
+            p.setContent(html);
+            return null;
+        });
+    }
+
+    /**
+     * @return a {@link Uni} emitting the page title
+     * @see Page#title()
+     */
+    public Uni<String> title() {
+        return execute(Page::title);
+    }
+
+    /**
+     * @return a {@link Uni} emitting the full HTML contents of the page
+     * @see Page#content()
+     */
+    public Uni<String> content() {
+        return execute(Page::content);
+    }
+
+    /**
+     * @return a {@link Uni} emitting a PNG screenshot of the viewport
+     * @see Page#screenshot()
+     */
+    public Uni<byte[]> screenshot() {
+        return screenshot(new Page.ScreenshotOptions());
+    }
+
+    /**
+     * @param options the screenshot options
+     * @return a {@link Uni} emitting the screenshot
+     * @see Page#screenshot(Page.ScreenshotOptions)
+     */
+    public Uni<byte[]> screenshot(Page.ScreenshotOptions options) {
+        return execute(p -> p.screenshot(options));
+    }
+
+    /**
+     * @return a {@link Uni} emitting the page as PDF, only supported by Chromium
+     * @see Page#pdf()
+     */
+    public Uni<byte[]> pdf() {
+        return pdf(new Page.PdfOptions());
+    }
+
+    /**
+     * @param options the PDF options
+     * @return a {@link Uni} emitting the page as PDF, only supported by Chromium
+     * @see Page#pdf(Page.PdfOptions)
+     */
+    public Uni<byte[]> pdf(Page.PdfOptions options) {
+        return execute(p -> p.pdf(options));
+    }
+
+    /**
+     * @return a {@link Uni} emitting the ARIA snapshot of the page
+     * @see Page#ariaSnapshot()
+     */
+    public Uni<String> ariaSnapshot() {
+        return ariaSnapshot(new Page.AriaSnapshotOptions());
+    }
+
+    /**
+     * @param options the ARIA snapshot options
+     * @return a {@link Uni} emitting the ARIA snapshot of the page
+     * @see Page#ariaSnapshot(Page.AriaSnapshotOptions)
+     */
+    public Uni<String> ariaSnapshot(Page.AriaSnapshotOptions options) {
+        return execute(p -> p.ariaSnapshot(options));
+    }
+
+    /**
+     * Streams the text of the console messages logged by the page, until the subscription is cancelled or the page is
+     * closed. Playwright delivers events while the page runs other operations, such as {@link #navigate(String)}.
+     *
+     * @return a {@link Multi} of console message texts
+     * @see Page#onConsoleMessage(Consumer)
+     */
+    public Multi<String> consoleMessages() {
+        return Multi.createFrom().<String> emitter(emitter -> dispatcher.execute(owner, () -> {
+            final Consumer<ConsoleMessage> listener = message -> emitter.emit(message.text());
+            final Consumer<Page> closeListener = closed -> emitter.complete();
+            page.onConsoleMessage(listener);
+            page.onClose(closeListener);
+            emitter.onTermination(() -> dispatcher.execute(owner, () -> {
+                page.offConsoleMessage(listener);
+                page.offClose(closeListener);
+                return null;
+            }));
+            return null;
+        }).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                emitter.fail(failure);
+            }
+        })).emitOn(Infrastructure.getDefaultExecutor());
+    }
+
+    /**
+     * Closes the page and its context.
+     *
+     * @return a {@link Uni} completing once the context is closed
+     */
+    public Uni<Void> close() {
+        return execute(p -> {
+            p.context().close();
+            return null;
+        });
+    }
+}
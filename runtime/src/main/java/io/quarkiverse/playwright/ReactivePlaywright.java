@@ -0,0 +1,120 @@
+package io.quarkiverse.playwright;
+
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Page;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Mutiny facade over the {@link PlaywrightDispatcher}.
+ * <p>
+ * Every Playwright call blocks, so calling Playwright from the event loop is not an option, and dedicating a worker
+ * thread to each request does not scale. The returned {@link Uni} and {@link Multi} run their work on the dispatcher
+ * owner threads when subscribed to, and emit their items on the Mutiny default executor, so no caller thread is ever
+ * blocked:
+ *
+ * <pre>
+ * {@code
+ * @Inject
+ * ReactivePlaywright playwright;
+ *
+ * public Uni<byte[]> render(String url) {
+ *     return playwright.withPage(page -> {
+ *         page.navigate(url);
+ *         return page.screenshot();
+ *     });
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * The number of in-flight operations is bounded by the dispatcher queues, operations submitted when they are full fail
+ * with a {@link java.util.concurrent.RejectedExecutionException}.
+ * </p>
+ */
+@ApplicationScoped
+public class ReactivePlaywright {
+
+    @Inject
+    PlaywrightDispatcher dispatcher;
+
+    /**
+     * Runs a task with a browser of the first configured browser type.
+     *
+     * @param task the task, run on a dispatcher owner thread
+     * @return a {@link Uni} emitting the result of the task
+     */
+    public <T> Uni<T> withBrowser(Function<Browser, T> task) {
+        return withBrowser(dispatcher.defaultType(), task);
+    }
+
+    /**
+     * Runs a task with a browser of the given type.
+     *
+     * @param type the browser type
+     * @param task the task, run on a dispatcher owner thread
+     * @return a {@link Uni} emitting the result of the task
+     */
+    public <T> Uni<T> withBrowser(WithPlaywright.Browser type, Function<Browser, T> task) {
+        return offload(Uni.createFrom().completionStage(() -> dispatcher.submit(type, task)));
+    }
+
+    /**
+     * Runs a task with a new page, in a new context closed when the task completes.
+     *
+     * @param task the task, run on a dispatcher owner thread
+     * @return a {@link Uni} emitting the result of the task
+     * @see PlaywrightDispatcher#withPage(Function)
+     */
+    public <T> Uni<T> withPage(Function<Page, T> task) {
+        return withPage(dispatcher.defaultType(), task);
+    }
+
+    /**
+     * Runs a task with a new page of the given browser type, in a new context closed when the task completes.
+     *
+     * @param type the browser type
+     * @param task the task, run on a dispatcher owner thread
+     * @return a {@link Uni} emitting the result of the task
+     * @see PlaywrightDispatcher#withPage(WithPlaywright.Browser, Function)
+     */
+    public <T> Uni<T> withPage(WithPlaywright.Browser type, Function<Page, T> task) {
+        return offload(Uni.createFrom().completionStage(() -> dispatcher.withPage(type, task)));
+    }
+
+    /**
+     * Opens a page, in its own context, on a browser of the first configured browser type.
+     *
+     * @return a {@link Uni} emitting the page, which must be {@linkplain ReactivePage#close() closed}
+     */
+    public Uni<ReactivePage> newPage() {
+        return newPage(dispatcher.defaultType());
+    }
+
+    /**
+     * Opens a page, in its own context, on a browser of the given type. All the operations of the page run on the
+     * owner thread that created it.
+     *
+     * @param type the browser type
+     * @return a {@link Uni} emitting the page, which must be {@linkplain ReactivePage#close() closed}
+     */
+    public Uni<ReactivePage> newPage(WithPlaywright.Browser type) {
+        return offload(Uni.createFrom().completionStage(() -> {
+            final PlaywrightDispatcher.Owner owner = dispatcher.leastLoaded();
+            return dispatcher.submit(owner, type, browser -> dispatcher.newContext(browser).newPage())
+                    .thenApply(page -> new ReactivePage(dispatcher, owner, page));
+        }));
+    }
+
+    static <T> Uni<T> offload(Uni<T> uni) {
+        // leave the owner thread before any downstream operator runs
+        return uni.emitOn(Infrastructure.getDefaultExecutor());
+    }
+}
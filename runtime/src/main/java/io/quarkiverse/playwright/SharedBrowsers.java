@@ -0,0 +1,77 @@
+package io.quarkiverse.playwright;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * JVM-wide registry of the browsers launched by {@link QuarkusPlaywrightManager} for test classes opting in with
+ * {@link WithPlaywright#reuseBrowser()}.
+ * <p>
+ * Browsers are keyed by every {@link WithPlaywright} attribute that affects the {@link Playwright} instance or the
+ * browser launch, so a test class only gets a shared browser started exactly as it would have started its own. The
+ * shared browsers are closed when the JVM exits.
+ * </p>
+ */
+final class SharedBrowsers {
+
+    private static final Map<Key, Entry> BROWSERS = new HashMap<>();
+    private static boolean shutdownHookRegistered;
+
+    private SharedBrowsers() {
+    }
+
+    /**
+     * Returns the browser registered for the given key, launching it when there is none or when it got disconnected.
+     */
+    static synchronized Entry acquire(Key key, Supplier<Entry> launcher) {
+        Entry entry = BROWSERS.get(key);
+        if (entry != null && entry.browser().isConnected()) {
+            return entry;
+        }
+        if (entry != null) {
+            entry.close();
+        }
+        entry = launcher.get();
+        BROWSERS.put(key, entry);
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(SharedBrowsers::closeAll, "playwright-shared-browsers"));
+            shutdownHookRegistered = true;
+        }
+        return entry;
+    }
+
+    static synchronized void closeAll() {
+        BROWSERS.values().forEach(Entry::close);
+        BROWSERS.clear();
+    }
+
+    record Key(WithPlaywright.Browser browser, String channel, boolean headless, List<String> args,
+            boolean chromiumSandbox, double slowMo, String endpoint, boolean verbose, boolean debug, String testId,
+            List<String> selectors, Class<? extends PlaywrightAdapter> playwrightAdapter) {
+
+        static Key of(WithPlaywright options, String endpoint) {
+            return new Key(options.browser(), options.channel(), options.headless(), List.of(options.args()),
+                    options.chromiumSandbox(), options.slowMo(), endpoint, options.verbose(), options.debug(),
+                    options.testId(),
+                    Arrays.stream(options.selectors()).map(selector -> selector.name() + '=' + selector.script()).toList(),
+                    options.playwrightAdapter());
+        }
+    }
+
+    record Entry(Playwright playwright, Browser browser) {
+
+        void close() {
+            try {
+                playwright.close();
+            } catch (RuntimeException e) {
+                // the browser is going away anyway
+            }
+        }
+    }
+}
@@ -126,6 +126,37 @@ public @interface WithPlaywright {
      */
     String[] args() default { "--disable-gpu" };
 
+    /**
+     * Keeps the browser running after the test class and shares it with the other test classes of the JVM using the
+     * same browser, channel, headless, args, chromium sandbox, slow motion, verbose, debug, test id, selectors and
+     * adapter settings.
+     * <p>
+     * Each test class still gets its own {@link com.microsoft.playwright.BrowserContext BrowserContext}. Shared browsers
+     * are closed when the JVM exits. Defaults to {@code false}.
+     * </p>
+     */
+    boolean reuseBrowser() default false;
+
+    /**
+     * Makes the test class safe to run with JUnit parallel execution.
+     * <p>
+     * Playwright objects are not thread-safe, so instead of one browser and context for the whole test class, every
+     * test method gets its own Playwright instance, browser and context, injected before the test and released after
+     * it. The test class must use the default per-method test instance lifecycle, and {@link #reuseBrowser()} does not
+     * apply. Defaults to {@code false}.
+     * </p>
+     */
+    boolean parallel() default false;
+
+    /**
+     * Maximum number of Playwright instances, and browsers, launched for the test methods running in
+     * {@link #parallel()} mode. Test methods wait for a browser when all of them are in use.
+     * <p>
+     * Defaults to {@code 0}, which uses the number of available processors.
+     * </p>
+     */
+    int parallelism() default 0;
+
     /**
      * Specifies Playwright selectors to be used for locating elements in tests.
      * <p>
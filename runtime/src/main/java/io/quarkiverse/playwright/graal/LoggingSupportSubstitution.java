@@ -1,16 +1,11 @@
 package io.quarkiverse.playwright.graal;
 
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-
 import com.oracle.svm.core.annotate.Alias;
 import com.oracle.svm.core.annotate.Substitute;
 import com.oracle.svm.core.annotate.TargetClass;
 
-import io.quarkus.logging.Log;
-
 /**
- * Replace System.out.println with Jboss Logging.
+ * Replace System.err.println with the {@link PlaywrightLogPipeline}.
  */
 @TargetClass(className = "com.microsoft.playwright.impl.LoggingSupport")
 final class LoggingSupportSubstitution {
@@ -18,13 +13,9 @@ final class LoggingSupportSubstitution {
     @Alias
     private static boolean isEnabled;
 
-    @Alias
-    private static DateTimeFormatter timestampFormat;
-
     @Substitute
     static void logWithTimestamp(String message) {
-        String timestamp = ZonedDateTime.now().format(timestampFormat);
-        Log.infof("%s %s", timestamp, message);
+        PlaywrightLogPipeline.log(PlaywrightLogPipeline.API, message);
     }
 
     @Substitute
@@ -36,6 +27,6 @@ final class LoggingSupportSubstitution {
 
     @Substitute
     static void logApi(String message) {
-        logWithTimestamp("pw:api " + message);
+        PlaywrightLogPipeline.log(PlaywrightLogPipeline.API, message);
     }
 }
@@ -0,0 +1,240 @@
+package io.quarkiverse.playwright.graal;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.MDC;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Writes the Playwright debug logs of native executables to JBoss Logging from a background thread.
+ * <p>
+ * Playwright formats a timestamp and concatenates every line on the calling thread, and serializes every protocol
+ * message once more for {@code DEBUG=pw:protocol}. The substitutions record what would be logged into a bounded
+ * buffer instead: the time, the category, and the line or the protocol message itself. A daemon thread then formats and
+ * logs the records, with the {@code playwright.category}, {@code playwright.method} and {@code playwright.duration}
+ * MDC entries for structured logging. Records are dropped, and counted, rather than blocking the calling thread when
+ * the buffer is full.
+ * </p>
+ */
+final class PlaywrightLogPipeline {
+
+    static final String API = "pw:api";
+    static final String PROTOCOL = "pw:protocol";
+    static final String INSTALL = "pw:install";
+
+    private static final Logger log = Logger.getLogger("io.quarkiverse.playwright.driver");
+    private static final int CAPACITY = 8192;
+
+    private static final PlaywrightLogPipeline pipeline = new PlaywrightLogPipeline(CAPACITY);
+
+    private final BlockingQueue<LogRecord> records;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    PlaywrightLogPipeline(int capacity) {
+        this.records = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Records a log line.
+     */
+    static void log(String category, String message) {
+        if (log.isInfoEnabled()) {
+            pipeline.enqueue(new LogRecord(System.currentTimeMillis(), System.nanoTime(), category, message, null, null,
+                    false));
+        }
+    }
+
+    /**
+     * Records a protocol message, serialized by the drainer.
+     *
+     * @param transport the transport of the connection, to relate responses to their calls
+     * @param message the message, which Playwright does not modify once sent or received
+     * @param sent whether the message is sent to the driver
+     */
+    static void protocol(Object transport, JsonObject message, boolean sent) {
+        if (log.isInfoEnabled()) {
+            pipeline.enqueue(new LogRecord(System.currentTimeMillis(), System.nanoTime(), PROTOCOL, null, transport,
+                    message, sent));
+        }
+    }
+
+    /**
+     * Buffers the record, starting the drainer thread with the first one.
+     */
+    void enqueue(LogRecord record) {
+        offer(record);
+        if (!started.get() && started.compareAndSet(false, true)) {
+            final Thread drainer = new Thread(new Drainer(), "playwright-log");
+            drainer.setDaemon(true);
+            drainer.start();
+        }
+    }
+
+    /**
+     * Buffers the record, or counts it as dropped when the buffer is full.
+     *
+     * @return whether the record was buffered
+     */
+    boolean offer(LogRecord record) {
+        if (records.offer(record)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * What the Playwright logging substitutions would have written.
+     *
+     * @param timestamp when the record was logged, in epoch milliseconds
+     * @param nanoTime when the record was logged, to measure the protocol calls
+     * @param category {@link #API}, {@link #PROTOCOL} or {@link #INSTALL}
+     * @param message the log line, or {@code null} for a protocol message
+     * @param transport the transport of the protocol message
+     * @param payload the protocol message
+     * @param sent whether the protocol message was sent to the driver
+     */
+    record LogRecord(long timestamp, long nanoTime, String category, String message, Object transport,
+            JsonObject payload, boolean sent) {
+    }
+
+    /**
+     * Logs the records, the only thread formatting them.
+     */
+    final class Drainer implements Runnable {
+
+        private static final DateTimeFormatter SECONDS = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")
+                .withZone(ZoneOffset.UTC);
+        private static final int MAX_PENDING_CALLS = 10_000;
+
+        /**
+         * When the pending calls were sent, by transport and id.
+         */
+        private final Map<CallKey, Long> pendingCalls = new HashMap<>();
+        private final StringBuilder line = new StringBuilder();
+        private long second = Long.MIN_VALUE;
+        private String secondPrefix;
+
+        @Override
+        public void run() {
+            while (true) {
+                final LogRecord record;
+                try {
+                    record = records.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                drain(record);
+            }
+        }
+
+        /**
+         * Logs the records buffered so far on the calling thread, without waiting for more.
+         */
+        void drain() {
+            for (LogRecord record = records.poll(); record != null; record = records.poll()) {
+                drain(record);
+            }
+        }
+
+        private void drain(LogRecord record) {
+            final long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                log.warnf("%d Playwright log record(s) dropped, the log buffer is full", lost);
+            }
+            try {
+                write(record);
+            } catch (RuntimeException e) {
+                log.debug("Failed to log a Playwright log record", e);
+            } finally {
+                MDC.remove("playwright.category");
+                MDC.remove("playwright.method");
+                MDC.remove("playwright.duration");
+            }
+        }
+
+        private void write(LogRecord record) {
+            line.setLength(0);
+            appendTimestamp(record.timestamp());
+            line.append(' ').append(record.category()).append(' ');
+            MDC.put("playwright.category", record.category());
+            if (record.payload() == null) {
+                line.append(record.message());
+            } else {
+                final JsonObject payload = record.payload();
+                final JsonElement method = payload.get("method");
+                if (method != null) {
+                    MDC.put("playwright.method", method.getAsString());
+                }
+                final JsonElement id = payload.get("id");
+                if (id != null) {
+                    final CallKey key = new CallKey(record.transport(), id.getAsInt());
+                    if (record.sent()) {
+                        if (pendingCalls.size() >= MAX_PENDING_CALLS) {
+                            // responses that never came, such as the calls of a closed connection
+                            pendingCalls.clear();
+                        }
+                        pendingCalls.put(key, record.nanoTime());
+                    } else {
+                        final Long sent = pendingCalls.remove(key);
+                        if (sent != null) {
+                            MDC.put("playwright.duration",
+                                    TimeUnit.NANOSECONDS.toMillis(record.nanoTime() - sent) + "ms");
+                        }
+                    }
+                }
+                line.append(record.sent() ? "SEND ► " : "◀ RECV ").append(payload);
+            }
+            log.info(line.toString());
+        }
+
+        /**
+         * Appends the timestamp in the format of Playwright, in UTC, formatting the date and time once per second.
+         */
+        private void appendTimestamp(long timestamp) {
+            final long epochSecond = Math.floorDiv(timestamp, 1000);
+            if (epochSecond != second) {
+                second = epochSecond;
+                secondPrefix = SECONDS.format(Instant.ofEpochSecond(epochSecond));
+            }
+            final int millis = (int) Math.floorMod(timestamp, 1000);
+            line.append(secondPrefix).append('.');
+            if (millis < 100) {
+                line.append('0');
+            }
+            if (millis < 10) {
+                line.append('0');
+            }
+            line.append(millis).append('Z');
+        }
+    }
+
+    /**
+     * A call of a connection, the transports are compared by identity.
+     */
+    private record CallKey(Object transport, int id) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CallKey key && key.transport == transport && key.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(transport) + id;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkiverse.playwright.graal;
+
+/**
+ * Reflection-free access to the fields of one Playwright protocol class, generated at build time in the package of the
+ * protocol class so that it can read and write its package-private fields directly.
+ */
+public interface ProtocolAccessor {
+
+    /**
+     * @return the protocol class
+     */
+    Class<?> type();
+
+    /**
+     * @return the names of the serialized fields, in name order
+     */
+    String[] fieldNames();
+
+    /**
+     * @return the types of the serialized fields, primitive types included, in the order of {@link #fieldNames()}
+     */
+    Class<?>[] fieldTypes();
+
+    /**
+     * @return a new instance of the protocol class
+     */
+    Object newInstance();
+
+    /**
+     * @return the value of the given field, boxed for primitive fields
+     */
+    Object get(Object target, int field);
+
+    /**
+     * Sets the value of the given field, unboxing it for primitive fields.
+     */
+    void set(Object target, int field, Object value);
+}
@@ -0,0 +1,102 @@
+package io.quarkiverse.playwright.graal;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Creates the Gson adapters of the Playwright protocol classes from their generated {@link ProtocolAccessor}s.
+ * <p>
+ * The adapters follow the rules of the reflective adapter of Gson they replace: {@code null} fields are not written,
+ * unknown properties are skipped and a {@code null} value leaves a primitive field untouched.
+ * </p>
+ */
+public final class ProtocolTypeAdapterFactory implements TypeAdapterFactory {
+
+    private final Map<Class<?>, ProtocolAccessor> accessors = new HashMap<>();
+
+    public ProtocolTypeAdapterFactory(List<ProtocolAccessor> accessors) {
+        for (ProtocolAccessor accessor : accessors) {
+            this.accessors.put(accessor.type(), accessor);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        final ProtocolAccessor accessor = accessors.get(type.getRawType());
+        return accessor == null ? null : (TypeAdapter<T>) new ProtocolTypeAdapter(gson, accessor).nullSafe();
+    }
+
+    private static final class ProtocolTypeAdapter extends TypeAdapter<Object> {
+
+        private final Gson gson;
+        private final ProtocolAccessor accessor;
+        private final String[] names;
+        private final Class<?>[] types;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        // resolved on first use, the adapters of recursive types are not available yet while this one is created
+        private final TypeAdapter<?>[] adapters;
+
+        ProtocolTypeAdapter(Gson gson, ProtocolAccessor accessor) {
+            this.gson = gson;
+            this.accessor = accessor;
+            this.names = accessor.fieldNames();
+            this.types = accessor.fieldTypes();
+            this.adapters = new TypeAdapter<?>[names.length];
+            for (int i = 0; i < names.length; i++) {
+                indexes.put(names[i], i);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, Object value) throws IOException {
+            out.beginObject();
+            for (int i = 0; i < names.length; i++) {
+                final Object fieldValue = accessor.get(value, i);
+                if (fieldValue != null) {
+                    out.name(names[i]);
+                    ((TypeAdapter<Object>) adapter(i)).write(out, fieldValue);
+                }
+            }
+            out.endObject();
+        }
+
+        @Override
+        public Object read(JsonReader in) throws IOException {
+            final Object value = accessor.newInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                final Integer index = indexes.get(in.nextName());
+                if (index == null) {
+                    in.skipValue();
+                } else if (types[index].isPrimitive() && in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                } else {
+                    accessor.set(value, index, adapter(index).read(in));
+                }
+            }
+            in.endObject();
+            return value;
+        }
+
+        private TypeAdapter<?> adapter(int index) {
+            TypeAdapter<?> adapter = adapters[index];
+            if (adapter == null) {
+                adapter = gson.getAdapter(types[index]);
+                adapters[index] = adapter;
+            }
+            return adapter;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkiverse.playwright.graal;
+
+import java.util.List;
+
+import com.google.gson.Gson;
+
+/**
+ * Holds the generated protocol adapters installed while the native image is built, and the Playwright {@link Gson}
+ * instance extended with them.
+ */
+public final class ProtocolTypeAdapters {
+
+    private static volatile ProtocolTypeAdapterFactory factory;
+    private static volatile Gson gson;
+
+    private ProtocolTypeAdapters() {
+    }
+
+    public static void install(List<ProtocolAccessor> accessors) {
+        factory = new ProtocolTypeAdapterFactory(accessors);
+        gson = null;
+    }
+
+    /**
+     * @return the given Playwright {@link Gson} instance, extended with the protocol adapters when they are installed
+     */
+    static Gson gson(Gson original) {
+        final ProtocolTypeAdapterFactory installed = factory;
+        if (installed == null) {
+            return original;
+        }
+        Gson extended = gson;
+        if (extended == null) {
+            // keeps the adapters and settings of Playwright, the generated adapters take precedence over reflection
+            extended = original.newBuilder().registerTypeAdapterFactory(installed).create();
+            gson = extended;
+        }
+        return extended;
+    }
+}
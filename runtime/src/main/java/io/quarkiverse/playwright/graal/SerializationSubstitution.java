@@ -0,0 +1,21 @@
+package io.quarkiverse.playwright.graal;
+
+import com.google.gson.Gson;
+import com.oracle.svm.core.annotate.Alias;
+import com.oracle.svm.core.annotate.Substitute;
+import com.oracle.svm.core.annotate.TargetClass;
+
+/**
+ * Serialize the protocol messages with the adapters generated at build time instead of Gson reflection.
+ */
+@TargetClass(className = "com.microsoft.playwright.impl.Serialization")
+final class SerializationSubstitution {
+
+    @Alias
+    private static Gson gson;
+
+    @Substitute
+    static Gson gson() {
+        return ProtocolTypeAdapters.gson(gson);
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkiverse.playwright.graal;
+
+import java.time.Duration;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.impl.Transport;
+import com.oracle.svm.core.annotate.Alias;
+import com.oracle.svm.core.annotate.Substitute;
+import com.oracle.svm.core.annotate.TargetClass;
+
+/**
+ * Hand the protocol messages to the {@link PlaywrightLogPipeline} instead of serializing them on the calling thread.
+ */
+@TargetClass(className = "com.microsoft.playwright.impl.TransportLogger")
+final class TransportLoggerSubstitution {
+
+    @Alias
+    private Transport transport;
+
+    @Substitute
+    public void send(JsonObject message) {
+        PlaywrightLogPipeline.protocol(this, message, true);
+        transport.send(message);
+    }
+
+    @Substitute
+    public JsonObject poll(Duration timeout) {
+        final JsonObject message = transport.poll(timeout);
+        if (message != null) {
+            PlaywrightLogPipeline.protocol(this, message, false);
+        }
+        return message;
+    }
+}